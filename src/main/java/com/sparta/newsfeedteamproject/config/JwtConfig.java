@@ -1,9 +1,12 @@
 package com.sparta.newsfeedteamproject.config;
 
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.security.Key;
@@ -22,6 +25,7 @@ public class JwtConfig {
     public static final String ACCESS_TOKEN_HEADER = "accessToken";
     public static final String REFRESH_TOKEN_HEADER = "refreshToken";
     public static final String AUTHORIZATION_KEY = "status";
+    public static final String USER_ID_KEY = "userId";
     public static final String BEARER_PREFIX = "Bearer ";
 
     public static Key key;
@@ -36,4 +40,10 @@ public class JwtConfig {
         accessTokenTime = ACCESS_TOKEN_TIME;
         refreshTokenTime = REFRESH_TOKEN_TIME;
     }
+
+    // 요청마다 파서를 새로 만들지 않도록 서명 키가 설정된 파서를 한 번만 생성 (thread-safe)
+    @Bean
+    public JwtParser jwtParser() {
+        return Jwts.parserBuilder().setSigningKey(key).build();
+    }
 }
\ No newline at end of file
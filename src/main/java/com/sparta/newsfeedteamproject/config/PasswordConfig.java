@@ -1,5 +1,8 @@
 package com.sparta.newsfeedteamproject.config;
 
+import com.sparta.newsfeedteamproject.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,8 +11,19 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class PasswordConfig {
 
+    @Value("${password.bcrypt.strength:10}")
+    private int strength;
+    @Value("${password.hash.pool-size:0}")
+    private int poolSize;
+    @Value("${password.hash.queue-capacity:100}")
+    private int queueCapacity;
+    @Value("${password.hash.retry-after:1}")
+    private long retryAfterSeconds;
+
+    // pool-size 미설정(0) 시 CPU 코어 수만큼 해싱 스레드 사용
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity, retryAfterSeconds, meterRegistry);
     }
 }
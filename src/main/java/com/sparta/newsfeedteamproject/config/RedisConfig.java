@@ -0,0 +1,43 @@
+package com.sparta.newsfeedteamproject.config;
+
+import com.sparta.newsfeedteamproject.filter.ResponseCache;
+import com.sparta.newsfeedteamproject.security.TokenRevocationStore;
+import com.sparta.newsfeedteamproject.service.ChangeWatermark;
+import com.sparta.newsfeedteamproject.service.FeedCache;
+import com.sparta.newsfeedteamproject.service.SignupBloomFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    // 서버 간 캐시/폐기 정보 동기화를 위한 Redis pub/sub 구독
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TokenRevocationStore tokenRevocationStore,
+                                                                       SignupBloomFilter signupBloomFilter,
+                                                                       FeedCache feedCache,
+                                                                       ResponseCache responseCache,
+                                                                       ChangeWatermark changeWatermark) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenRevocationStore, new ChannelTopic(TokenRevocationStore.CHANNEL));
+        container.addMessageListener(signupBloomFilter, new ChannelTopic(SignupBloomFilter.CHANNEL));
+        // 다른 서버에서 게시물이 변경되면 게시물 캐시를 먼저 삭제한 뒤 응답 캐시를 삭제 (반대 순서면 이전 게시물로 응답 캐시가 다시 채워질 수 있음)
+        // ETag는 캐시를 모두 삭제한 뒤 갱신 (먼저 갱신하면 새 ETag가 이전 응답과 함께 발급될 수 있음)
+        container.addMessageListener((message, pattern) -> {
+            feedCache.onMessage(message, pattern);
+            responseCache.onFeedMessage(message, pattern);
+            changeWatermark.onFeedMessage(message, pattern);
+        }, new ChannelTopic(FeedCache.CHANNEL));
+        container.addMessageListener((message, pattern) -> {
+            responseCache.onProfileMessage(message, pattern);
+            changeWatermark.onProfileMessage(message, pattern);
+        }, new ChannelTopic(ResponseCache.PROFILE_CHANNEL));
+
+        return container;
+    }
+}
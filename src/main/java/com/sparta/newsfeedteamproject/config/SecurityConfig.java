@@ -1,18 +1,24 @@
 package com.sparta.newsfeedteamproject.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.newsfeedteamproject.security.AuthenticationFilter;
 import com.sparta.newsfeedteamproject.security.AuthorizationFilter;
+import com.sparta.newsfeedteamproject.security.LoginRateLimiter;
+import com.sparta.newsfeedteamproject.security.RefreshTokenStore;
+import com.sparta.newsfeedteamproject.security.TokenRevocationStore;
+import com.sparta.newsfeedteamproject.security.UserAuthenticationProvider;
 import com.sparta.newsfeedteamproject.security.UserDetailsServiceImpl;
 import com.sparta.newsfeedteamproject.util.JwtProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -22,30 +28,43 @@ public class SecurityConfig {
 
     private final JwtProvider jwtProvider;
     private final UserDetailsServiceImpl userDetailsService;
-    private final AuthenticationConfiguration authenticationConfiguration;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public SecurityConfig(JwtProvider jwtProvider, UserDetailsServiceImpl userDetailsService, AuthenticationConfiguration authenticationConfiguration) {
+    public SecurityConfig(JwtProvider jwtProvider, UserDetailsServiceImpl userDetailsService, PasswordEncoder passwordEncoder, ObjectMapper objectMapper, TokenRevocationStore tokenRevocationStore, RefreshTokenStore refreshTokenStore, LoginRateLimiter loginRateLimiter) {
         this.jwtProvider = jwtProvider;
 
         this.userDetailsService = userDetailsService;
-        this.authenticationConfiguration = authenticationConfiguration;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.refreshTokenStore = refreshTokenStore;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
-        return configuration.getAuthenticationManager();
+    public UserAuthenticationProvider userAuthenticationProvider() {
+        return new UserAuthenticationProvider(userDetailsService, passwordEncoder);
     }
 
     @Bean
-    public AuthenticationFilter authenticationFilter() throws Exception {
-        AuthenticationFilter filter = new AuthenticationFilter(jwtProvider, userDetailsService);
-        filter.setAuthenticationManager(authenticationManager(authenticationConfiguration));
+    public AuthenticationManager authenticationManager() {
+        return new ProviderManager(userAuthenticationProvider());
+    }
+
+    @Bean
+    public AuthenticationFilter authenticationFilter() {
+        AuthenticationFilter filter = new AuthenticationFilter(jwtProvider, objectMapper, loginRateLimiter);
+        filter.setAuthenticationManager(authenticationManager());
         return filter;
     }
 
     @Bean
     public AuthorizationFilter authorizationFilter() {
-        return new AuthorizationFilter(jwtProvider, userDetailsService);
+        return new AuthorizationFilter(jwtProvider, userDetailsService, tokenRevocationStore, refreshTokenStore);
     }
 
     @Bean
@@ -64,6 +83,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/users/profile/{userId}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/feeds/{feedId}").permitAll()
                         .requestMatchers(HttpMethod.GET, "/feeds/all").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/feeds/{feedId}/comments").permitAll()
                         .requestMatchers(HttpMethod.GET, "/feeds/{feedId}/comments/{commentId}").permitAll()
                         .anyRequest().authenticated()
 
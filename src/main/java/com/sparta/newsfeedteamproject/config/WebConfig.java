@@ -0,0 +1,22 @@
+package com.sparta.newsfeedteamproject.config;
+
+import com.sparta.newsfeedteamproject.filter.ResponseCache;
+import com.sparta.newsfeedteamproject.filter.ResponseCacheFilter;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WebConfig {
+
+    // Security 필터 이후에 실행하여 기존 인증/인가 처리는 그대로 유지
+    @Bean
+    public FilterRegistrationBean<ResponseCacheFilter> responseCacheFilter(ResponseCache responseCache) {
+        FilterRegistrationBean<ResponseCacheFilter> registration = new FilterRegistrationBean<>(new ResponseCacheFilter(responseCache));
+        registration.addUrlPatterns("/feeds/*", "/users/profile/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+
+        return registration;
+    }
+}
@@ -1,5 +1,6 @@
 package com.sparta.newsfeedteamproject.controller;
 
+import com.sparta.newsfeedteamproject.dto.CursorResDto;
 import com.sparta.newsfeedteamproject.dto.MessageResDto;
 import com.sparta.newsfeedteamproject.dto.comment.CommentDelResDto;
 import com.sparta.newsfeedteamproject.dto.comment.CommentReqDto;
@@ -11,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/feeds")
@@ -32,9 +34,31 @@ public class CommentController {
         return ResponseEntity.status(HttpStatus.OK).body(resDto);
     }
 
+    @GetMapping("/{feedId}/comments")
+    public ResponseEntity<MessageResDto<CursorResDto<CommentResDto>>> getComments(@PathVariable Long feedId,
+                                                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                                                @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                                WebRequest webRequest) {
+
+        // If-None-Match가 현재 ETag와 같으면 댓글을 조회하지 않고 304 응답 (ETag Header는 checkNotModified에서 설정)
+        if (webRequest.checkNotModified(commentService.getCommentsETag(feedId))) {
+            return null;
+        }
+
+        MessageResDto<CursorResDto<CommentResDto>> resDto = commentService.getComments(feedId, cursor, size);
+
+        return ResponseEntity.status(HttpStatus.OK).body(resDto);
+    }
+
     @GetMapping("/{feedId}/comments/{commentId}")
     public ResponseEntity<MessageResDto<CommentResDto>> getComment(@PathVariable Long feedId,
-                                                                   @PathVariable Long commentId) {
+                                                                   @PathVariable Long commentId,
+                                                                   WebRequest webRequest) {
+
+        // 존재하지 않는 댓글은 ETag가 없으므로 아래에서 예외 처리
+        if (webRequest.checkNotModified(commentService.getCommentETag(feedId, commentId))) {
+            return null;
+        }
 
         MessageResDto<CommentResDto> resDto = commentService.getComment(feedId, commentId);
 
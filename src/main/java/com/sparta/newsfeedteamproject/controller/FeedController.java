@@ -1,5 +1,6 @@
 package com.sparta.newsfeedteamproject.controller;
 
+import com.sparta.newsfeedteamproject.dto.CursorResDto;
 import com.sparta.newsfeedteamproject.dto.MessageResDto;
 import com.sparta.newsfeedteamproject.dto.feed.FeedReqDto;
 import com.sparta.newsfeedteamproject.dto.feed.FeedResDto;
@@ -10,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -18,6 +20,8 @@ import java.util.List;
 @RequestMapping("/feeds")
 public class FeedController {
 
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
     private final FeedService feedService;
 
     public FeedController(FeedService feedService) {
@@ -28,18 +32,55 @@ public class FeedController {
     public ResponseEntity<MessageResDto<List<FeedResDto>>> getAllFeeds(@RequestParam(value = "page", defaultValue = "1") int page,
                                                                        @RequestParam(value = "sortBy", defaultValue = "createdAt") String sortBy,
                                                                        @RequestParam(value = "startDate", required = false) LocalDate startDate,
-                                                                       @RequestParam(value = "endDate", required = false) LocalDate endDate) {
+                                                                       @RequestParam(value = "endDate", required = false) LocalDate endDate,
+                                                                       @RequestParam(value = "withTotal", defaultValue = "false") boolean withTotal,
+                                                                       WebRequest webRequest) {
+
+        // 전체 게시물 수는 요청한 경우에만 주기적으로 집계된 값을 Header로 반환
+        Long totalCount = withTotal ? feedService.getTotalFeedCount() : null;
+
+        // If-None-Match가 현재 ETag와 같으면 목록을 조회하지 않고 304 응답 (ETag Header는 checkNotModified에서 설정)
+        if (webRequest.checkNotModified(feedService.getFeedListETag(sortBy, totalCount))) {
+            return null;
+        }
 
         MessageResDto<List<FeedResDto>> response = feedService.getAllFeeds(page - 1, sortBy, startDate, endDate);
 
+        if (totalCount != null) {
+            return ResponseEntity.status(HttpStatus.OK).header(TOTAL_COUNT_HEADER, String.valueOf(totalCount)).body(response);
+        }
+
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    // cursor 파라미터가 존재하면 Keyset Pagination 모드로 조회 (첫 페이지는 빈 cursor로 요청)
+    @GetMapping(value = "/all", params = "cursor")
+    public ResponseEntity<MessageResDto<CursorResDto<FeedResDto>>> getAllFeedsByCursor(@RequestParam(value = "cursor") String cursor,
+                                                                                     @RequestParam(value = "sortBy", defaultValue = "createdAt") String sortBy,
+                                                                                     WebRequest webRequest) {
 
-    @GetMapping("/{feedId}")
-    public ResponseEntity<MessageResDto<FeedResDto>> getFeed(@PathVariable(name = "feedId") Long feedId) {
+        if (webRequest.checkNotModified(feedService.getFeedListETag(sortBy, null))) {
+            return null;
+        }
 
-        MessageResDto<FeedResDto> response = feedService.getFeed(feedId);
+        MessageResDto<CursorResDto<FeedResDto>> response = feedService.getAllFeedsByCursor(cursor, sortBy);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @GetMapping("/{feedId}")
+    public ResponseEntity<MessageResDto<FeedResDto>> getFeed(@PathVariable(name = "feedId") Long feedId,
+                                                             @RequestParam(value = "commentSize", required = false) Integer commentSize,
+                                                             WebRequest webRequest) {
+
+        if (webRequest.checkNotModified(feedService.getFeedETag(feedId))) {
+            return null;
+        }
+
+        // commentSize가 주어지면 처음 commentSize개의 댓글과 다음 댓글 커서만 포함
+        MessageResDto<FeedResDto> response = commentSize == null
+                ? feedService.getFeed(feedId)
+                : feedService.getFeed(feedId, commentSize);
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
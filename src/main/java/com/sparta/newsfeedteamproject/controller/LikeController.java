@@ -9,8 +9,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -27,9 +29,33 @@ public class LikeController {
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @PutMapping("/{feedId}/like")
+    public ResponseEntity<MessageResDto<LikeResDto>> addFeedLike(@PathVariable Long feedId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        MessageResDto<LikeResDto> response = likeService.addFeedLike(feedId, userDetails);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @DeleteMapping("/{feedId}/like")
+    public ResponseEntity<MessageResDto<LikeResDto>> cancelFeedLike(@PathVariable Long feedId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        MessageResDto<LikeResDto> response = likeService.cancelFeedLike(feedId, userDetails);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
     @PostMapping("/{feedId}/comments/{commentId}/like")
     public ResponseEntity<MessageResDto<LikeResDto>> likeComment(@PathVariable Long feedId, @PathVariable Long commentId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
         MessageResDto<LikeResDto> reponse = likeService.likeComment(feedId, commentId, userDetails);
         return new ResponseEntity<>(reponse, HttpStatus.OK);
     }
+
+    @PutMapping("/{feedId}/comments/{commentId}/like")
+    public ResponseEntity<MessageResDto<LikeResDto>> addCommentLike(@PathVariable Long feedId, @PathVariable Long commentId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        MessageResDto<LikeResDto> response = likeService.addCommentLike(feedId, commentId, userDetails);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @DeleteMapping("/{feedId}/comments/{commentId}/like")
+    public ResponseEntity<MessageResDto<LikeResDto>> cancelCommentLike(@PathVariable Long feedId, @PathVariable Long commentId, @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        MessageResDto<LikeResDto> response = likeService.cancelCommentLike(feedId, commentId, userDetails);
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
 }
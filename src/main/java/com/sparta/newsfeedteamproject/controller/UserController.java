@@ -2,11 +2,14 @@ package com.sparta.newsfeedteamproject.controller;
 
 import com.sparta.newsfeedteamproject.dto.MessageResDto;
 import com.sparta.newsfeedteamproject.dto.user.ProfileResDto;
+import com.sparta.newsfeedteamproject.dto.user.SignupAvailabilityResDto;
 import com.sparta.newsfeedteamproject.dto.user.SignupReqDto;
 import com.sparta.newsfeedteamproject.dto.user.UpdateReqDto;
 import com.sparta.newsfeedteamproject.dto.user.UserAuthReqDto;
+import com.sparta.newsfeedteamproject.dto.user.VerifyReqDto;
 import com.sparta.newsfeedteamproject.security.UserDetailsImpl;
 import com.sparta.newsfeedteamproject.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j(topic = "user controller")
 @RestController
@@ -33,6 +37,26 @@ public class UserController {
 
     }
 
+    @GetMapping("/signup/availability")
+    public ResponseEntity<MessageResDto<SignupAvailabilityResDto>> checkAvailability(@RequestParam(required = false) String username, @RequestParam(required = false) String email) {
+        MessageResDto<SignupAvailabilityResDto> responseDto = new MessageResDto<>(HttpStatus.OK.value(), "사용 가능 여부 조회가 완료되었습니다!", userService.checkAvailability(username, email));
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
+    @PostMapping("/signup/verify")
+    public ResponseEntity<MessageResDto> verifyEmail(@RequestBody @Valid VerifyReqDto reqDto) {
+        userService.verifyEmail(reqDto);
+        MessageResDto responseDto = new MessageResDto(HttpStatus.OK.value(), "이메일 인증이 완료되었습니다!", null);
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
+    @PostMapping("/signup/code")
+    public ResponseEntity<MessageResDto> resendCode(@RequestParam String email, HttpServletRequest request) {
+        userService.resendCode(email, request.getRemoteAddr());
+        MessageResDto responseDto = new MessageResDto(HttpStatus.OK.value(), "인증번호 재발송 요청이 완료되었습니다!", null);
+        return new ResponseEntity<>(responseDto, HttpStatus.OK);
+    }
+
     @PutMapping("/status/{userId}")
     public ResponseEntity<MessageResDto> withdraw(@PathVariable Long userId, @RequestBody @Valid UserAuthReqDto reqDto, @AuthenticationPrincipal UserDetailsImpl userDetails) {
         userService.withdraw(userId, reqDto, userDetails);
@@ -47,7 +71,10 @@ public class UserController {
     }
 
     @GetMapping("/profile/{userId}")
-    public ResponseEntity<MessageResDto<ProfileResDto>> getProfile(@PathVariable Long userId) {
+    public ResponseEntity<MessageResDto<ProfileResDto>> getProfile(@PathVariable Long userId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(userService.getProfileETag(userId))) {
+            return null;
+        }
         MessageResDto<ProfileResDto> responseDto = new MessageResDto<>(HttpStatus.OK.value(), "프로필 조회가 완료되었습니다!", userService.getProfile(userId));
         return new ResponseEntity<>(responseDto, HttpStatus.OK);
     }
@@ -0,0 +1,33 @@
+package com.sparta.newsfeedteamproject.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sparta.newsfeedteamproject.util.Cursor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorResDto<T> {
+
+    private List<T> items;
+    // 다음 페이지가 없으면 null
+    private String nextCursor;
+
+    public CursorResDto(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // limit + 1개를 조회한 결과로 다음 페이지 존재 여부를 판단하여 마지막 요소 기준의 nextCursor 생성
+    public static <T> CursorResDto<T> of(List<T> fetched, int limit, Function<T, Cursor> cursorMapper) {
+        if (fetched.size() <= limit) {
+            return new CursorResDto<>(fetched, null);
+        }
+
+        List<T> items = fetched.subList(0, limit);
+
+        return new CursorResDto<>(items, cursorMapper.apply(items.get(limit - 1)).encode());
+    }
+}
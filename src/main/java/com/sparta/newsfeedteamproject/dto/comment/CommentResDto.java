@@ -1,14 +1,18 @@
 package com.sparta.newsfeedteamproject.dto.comment;
 
 import com.sparta.newsfeedteamproject.entity.Comment;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CommentResDto {
     private Long id;
     private String contents;
+    private Long likes;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
     private String username;
@@ -17,10 +21,36 @@ public class CommentResDto {
     public CommentResDto(Comment comment) {
         this.id = comment.getId();
         this.contents = comment.getContents();
+        this.likes = comment.getLikes();
         this.createdAt = comment.getCreatedAt();
         this.modifiedAt = comment.getModifiedAt();
         this.feedId = comment.getFeed().getId();
         this.username = comment.getUser().getUsername();
     }
 
+    // JPQL Constructor Expression - 엔티티를 생성하지 않고 필요한 컬럼만 조회
+    public CommentResDto(Long id, String contents, Long likes, LocalDateTime createdAt, LocalDateTime modifiedAt, String username, Long feedId) {
+        this.id = id;
+        this.contents = contents;
+        this.likes = likes;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.username = username;
+        this.feedId = feedId;
+    }
+
+    // 캐시된 게시물의 댓글을 수정하지 않도록 복사
+    public CommentResDto(CommentResDto other) {
+        this.id = other.id;
+        this.contents = other.contents;
+        this.likes = other.likes;
+        this.createdAt = other.createdAt;
+        this.modifiedAt = other.modifiedAt;
+        this.username = other.username;
+        this.feedId = other.feedId;
+    }
+
+    public void addLikes(long pendingLikes) {
+        this.likes += pendingLikes;
+    }
 }
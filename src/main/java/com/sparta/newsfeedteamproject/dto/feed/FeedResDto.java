@@ -1,14 +1,18 @@
 package com.sparta.newsfeedteamproject.dto.feed;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sparta.newsfeedteamproject.dto.CursorResDto;
 import com.sparta.newsfeedteamproject.dto.comment.CommentResDto;
 import com.sparta.newsfeedteamproject.entity.Feed;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class FeedResDto {
 
@@ -19,6 +23,7 @@ public class FeedResDto {
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
     private List<CommentResDto> comments;
+    private String nextCommentCursor;
 
     public FeedResDto(Feed feed) {
 
@@ -30,7 +35,40 @@ public class FeedResDto {
         this.modifiedAt = feed.getModifiedAt();
     }
 
+    // 목록 조회용 JPQL Constructor Expression - 엔티티를 생성하지 않고 필요한 컬럼만 조회
+    public FeedResDto(Long id, String username, String contents, Long likes, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+
+        this.id = id;
+        this.username = username;
+        this.contents = contents;
+        this.likes = likes;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    // 캐시된 값을 수정하지 않도록 복사 (댓글은 변경되지 않으므로 목록을 공유)
+    public FeedResDto(FeedResDto other) {
+
+        this.id = other.id;
+        this.username = other.username;
+        this.contents = other.contents;
+        this.likes = other.likes;
+        this.createdAt = other.createdAt;
+        this.modifiedAt = other.modifiedAt;
+        this.comments = other.comments;
+        this.nextCommentCursor = other.nextCommentCursor;
+    }
+
+    public void addLikes(long pendingLikes) {
+        this.likes += pendingLikes;
+    }
+
     public void setComments(List<CommentResDto> comments) {
         this.comments = comments;
     }
+
+    public void setCommentPage(CursorResDto<CommentResDto> commentPage) {
+        this.comments = commentPage.getItems().isEmpty() ? null : commentPage.getItems();
+        this.nextCommentCursor = commentPage.getNextCursor();
+    }
 }
@@ -0,0 +1,17 @@
+package com.sparta.newsfeedteamproject.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SignupAvailabilityResDto {
+    // 요청하지 않은 항목은 null
+    private Boolean usernameAvailable;
+    private Boolean emailAvailable;
+
+    public SignupAvailabilityResDto(Boolean usernameAvailable, Boolean emailAvailable) {
+        this.usernameAvailable = usernameAvailable;
+        this.emailAvailable = emailAvailable;
+    }
+}
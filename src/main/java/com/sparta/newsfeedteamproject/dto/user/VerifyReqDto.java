@@ -0,0 +1,16 @@
+package com.sparta.newsfeedteamproject.dto.user;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+
+@Getter
+public class VerifyReqDto {
+    @NotBlank(message = "[email:blank] 이메일을 작성해주세요!")
+    @Email(message = "[email:pattern] 이메일 형식을 맞춰주세요!")
+    private String email;
+    @NotBlank(message = "[code:blank] 인증번호를 작성해주세요!")
+    @Pattern(regexp = "^[0-9]{6}$", message = "[code:pattern] 6자리 숫자로 작성해주세요!")
+    private String code;
+}
@@ -4,10 +4,22 @@ import com.sparta.newsfeedteamproject.dto.comment.CommentReqDto;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Where;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "comment")
+@Table(name = "comment",
+        indexes = {
+                // 게시물별 댓글 Keyset Pagination 인덱스
+                @Index(name = "idx_comment_feed_created_at_id", columnList = "feed_id, created_at, id"),
+                // 삭제 대기 댓글 조회용 인덱스
+                @Index(name = "idx_comment_deleted_at", columnList = "deleted_at")
+        })
+// 삭제 요청된 댓글은 모든 조회에서 제외
+@Where(clause = "deleted_at IS NULL")
 @NoArgsConstructor
 public class Comment extends Timestamp {
 
@@ -16,14 +28,23 @@ public class Comment extends Timestamp {
     private Long id;
     @Column(name = "contents", nullable = false)
     private String contents;
-    @Column(name = "likes", nullable = false)
+    // 좋아요 수는 LikeCounter가 DB에서 직접 더하므로 수정 시 읽어온 값으로 덮어쓰지 않음
+    @Column(name = "likes", nullable = false, updatable = false)
     private Long likes;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "feed_id", nullable = false)
     private Feed feed;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
+    // 삭제 요청 시각 - FeedPurger가 좋아요와 함께 실제로 삭제
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    // 수정/삭제 시 증가 (동시 수정 충돌 감지), 좋아요 수 반영(LikeCounter)은 증가시키지 않음
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 
     public Comment(CommentReqDto reqDto, Feed feed, User user, Long likes) {
         this.contents = reqDto.getContents();
@@ -36,6 +57,10 @@ public class Comment extends Timestamp {
         this.contents = contents;
     }
 
+    public void delete(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
     public void increaseLikes() {
         this.likes++;
     }
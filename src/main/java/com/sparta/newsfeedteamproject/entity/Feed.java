@@ -4,13 +4,27 @@ import com.sparta.newsfeedteamproject.dto.feed.FeedReqDto;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Where;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "NewsFeed") // 매핑할 테이블의 이름을 지정
+@Table(name = "NewsFeed", // 매핑할 테이블의 이름을 지정
+        indexes = {
+                // Keyset Pagination 정렬 기준별 인덱스
+                @Index(name = "idx_feed_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_feed_likes_id", columnList = "likes, id"),
+                // 인기 순위(HotFeedRanking) 상위 K개 조회용 인덱스
+                @Index(name = "idx_feed_score_id", columnList = "feed_score, id"),
+                // 삭제 대기 게시물 조회용 인덱스
+                @Index(name = "idx_feed_deleted_at", columnList = "deleted_at")
+        })
+// 삭제 요청된 게시물은 모든 조회에서 제외
+@Where(clause = "deleted_at IS NULL")
 @NoArgsConstructor
 public class Feed extends Timestamp {
 
@@ -19,13 +33,27 @@ public class Feed extends Timestamp {
     private Long id;
     @Column(name = "contents", nullable = false)
     private String contents;
-    @Column(name = "likes", nullable = false)
+    // 좋아요 수는 LikeCounter가 DB에서 직접 더하므로 수정 시 읽어온 값으로 덮어쓰지 않음
+    @Column(name = "likes", nullable = false, updatable = false)
     private Long likes;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
-    @OneToMany(mappedBy = "feed", cascade = {CascadeType.PERSIST, CascadeType.REMOVE})
+    // 댓글과 댓글 좋아요는 FeedPurger가 chunk 단위로 삭제하므로 REMOVE를 전파하지 않음
+    @OneToMany(mappedBy = "feed", cascade = CascadeType.PERSIST)
     private List<Comment> commentList = new ArrayList<>();
+    // 삭제 요청 시각 - FeedPurger가 좋아요, 댓글과 함께 실제로 삭제
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    // 수정/삭제 시 증가 (동시 수정 충돌 감지), 좋아요 수 반영(LikeCounter)은 증가시키지 않음
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+    // 인기 점수의 log 값 - HotFeedRanking이 변경량을 직접 더하므로 엔티티에서는 저장하지 않음
+    @ColumnDefault("0")
+    @Column(name = "feed_score", nullable = false, insertable = false, updatable = false)
+    private Double feedScore;
 
     public Feed(FeedReqDto reqDto, User user) {
 
@@ -39,6 +67,11 @@ public class Feed extends Timestamp {
         this.contents = reqDto.getContents();
     }
 
+    public void delete(LocalDateTime deletedAt) {
+
+        this.deletedAt = deletedAt;
+    }
+
     public void increaseLikes() {
 
         this.likes++;
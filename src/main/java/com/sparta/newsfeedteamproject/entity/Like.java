@@ -6,14 +6,19 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "likes")
+@Table(name = "likes",
+        uniqueConstraints = {
+                // 같은 사용자가 같은 게시물/댓글에 중복으로 좋아요할 수 없도록 제한
+                @UniqueConstraint(name = "uk_likes_user_contents", columnNames = {"user_id", "contents_type", "contents_id"})
+        }
+)
 @NoArgsConstructor
 public class Like extends Timestamp {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
     @Column(nullable = false, name = "contents_type")
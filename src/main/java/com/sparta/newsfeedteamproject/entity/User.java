@@ -10,28 +10,33 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Setter
-@Table(name = "users")
+@Table(
+        name = "users",
+        uniqueConstraints = {
+                // 동시 가입 시에도 중복되지 않도록 DB에서 최종 확인 (위반 시 제약 조건 이름으로 중복 항목 구분)
+                @UniqueConstraint(name = "uk_users_username", columnNames = "username"),
+                @UniqueConstraint(name = "uk_users_email", columnNames = "email")
+        }
+)
 @RequiredArgsConstructor
 public class User extends Timestamp {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
-    @Column(unique = true, nullable = false, name = "username")
+    @Column(nullable = false, name = "username")
     private String username;
     @Column(nullable = false)
     private String password;
     @Column(nullable = false)
     private String name;
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String email;
     @Column(name = "user_info")
     private String userInfo;
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private Status status;
-    @Column(name = "refresh_token")
-    private String refreshToken;
     @Column(nullable = false, name = "status_mod_time")
     @Temporal(TemporalType.TIMESTAMP)
     private LocalDateTime statusModTime;
@@ -46,18 +51,10 @@ public class User extends Timestamp {
         this.statusModTime = statusModTime;
     }
 
-    public void deleteRefreshToken() {
-        this.refreshToken = "";
-    }
-
     public void update(String name, String userInfo, String newPassword, LocalDateTime modifiedAt) {
         this.name = name;
         this.userInfo = userInfo;
         this.password = newPassword;
         this.setModifiedAt(modifiedAt);
     }
-
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
 }
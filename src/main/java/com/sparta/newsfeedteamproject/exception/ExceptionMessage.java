@@ -14,6 +14,11 @@ public enum ExceptionMessage {
     NON_EXISTENT_ELEMENT("해당 요소가 존재하지 않습니다."),
     UNAUTHORIZED_USER("미인증된 회원입니다."),
     AUTHENTICATED_USER("인증이 완료된 사용자입니다."),
+    UNVALID_CURSOR("유효하지 않은 커서입니다."),
+    UNSUPPORTED_SORT("지원하지 않는 정렬 기준입니다."),
+    UNVALID_CODE("유효하지 않은 인증번호입니다."),
+    TOO_MANY_REQUESTS("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    CONFLICT_UPDATE("다른 요청에서 먼저 수정되었습니다. 다시 조회한 후 시도해주세요."),
     EXPIRATION_TOKEN("만료된 토큰입니다. 다시 로그인해주세요.");
 
     private String message;
@@ -2,6 +2,8 @@ package com.sparta.newsfeedteamproject.exception;
 
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
 
@@ -22,6 +24,22 @@ public class FilterExceptionHandler {
         }
     }
 
+    public static void handleTooManyRequestsInFilter(HttpServletResponse servletResponse, TooManyRequestsException exception) {
+        log.error(exception.getMessage());
+
+        //서블릿 응답 UTF-8 인코딩
+        servletResponse.setContentType("text/plain; charset=UTF-8");
+        servletResponse.setCharacterEncoding("UTF-8");
+
+        servletResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        servletResponse.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()));
+        try {
+            servletResponse.getWriter().write("error :" + exception.getMessage());
+        } catch (IOException e) {
+            log.error(e.getMessage());
+        }
+    }
+
     public static void handleJwtExceptionInFilter(HttpServletResponse servletResponse, ExceptionMessage errorMessage) {
         log.error(errorMessage.getExceptionMessage());
 
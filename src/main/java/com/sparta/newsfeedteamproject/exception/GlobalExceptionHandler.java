@@ -1,6 +1,8 @@
 package com.sparta.newsfeedteamproject.exception;
 
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.ObjectError;
@@ -18,6 +20,19 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>("Exception caught : " + e.getMessage(), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<String> TooManyRequestsExceptionHandler(TooManyRequestsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body("Exception caught : " + e.getMessage());
+    }
+
+    // @Version 충돌 - 조회 이후 다른 요청에서 먼저 수정/삭제됨
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> OptimisticLockingFailureExceptionHandler(OptimisticLockingFailureException e) {
+        return new ResponseEntity<>("Exception caught : " + ExceptionMessage.CONFLICT_UPDATE.getExceptionMessage(), HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<String> MethodArgumentNotValidExceptionHandler(MethodArgumentNotValidException e) {
         String errmsgs = e.getBindingResult().getAllErrors().stream()
@@ -0,0 +1,15 @@
+package com.sparta.newsfeedteamproject.exception;
+
+import lombok.Getter;
+
+// 처리 가능한 요청 수를 초과하여 즉시 거부할 때 사용 (429 응답과 Retry-After 헤더로 변환)
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super(ExceptionMessage.TOO_MANY_REQUESTS.getExceptionMessage());
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,198 @@
+package com.sparta.newsfeedteamproject.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.newsfeedteamproject.service.FeedChangedEvent;
+import com.sparta.newsfeedteamproject.service.ProfileChangedEvent;
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.AntPathMatcher;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
+
+// 인증 없이 허용한 GET 응답의 최종 JSON 바이트와 gzip 압축본을 URL(쿼리 포함) 단위로 보관
+// 적중 시 Controller, Hibernate, Jackson을 거치지 않고 ResponseCacheFilter가 저장된 바이트를 그대로 응답
+// 응답에는 서버별 미반영 좋아요 수가 포함되므로 좋아요 수가 DB에 반영될 때(FeedChangedEvent) 함께 삭제
+@Slf4j(topic = "ResponseCache")
+@Component
+public class ResponseCache {
+
+    public static final String PROFILE_CHANNEL = "user:profile:changed";
+    // SecurityConfig에서 인증 없이 허용한 GET 경로
+    private static final List<String> CACHEABLE_PATHS = List.of(
+            "/feeds/all", "/feeds/{feedId}", "/feeds/{feedId}/comments/{commentId}", "/users/profile/{userId}");
+    private static final String FEED_LIST_PATH = "/feeds/all";
+    private static final String FEED_PATH = "/feeds/";
+    private static final String PROFILE_PATH = "/users/profile/";
+
+    private final RedisUtil redisUtil;
+    private final boolean enabled;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Cache<Key, CachedResponse> responses;
+    // 삭제할 때마다 증가, 응답을 만드는 중에 삭제가 발생했으면 이전 값일 수 있으므로 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseCache(RedisUtil redisUtil,
+                         @Value("${response.cache.enabled:true}") boolean enabled,
+                         @Value("${response.cache.ttl:10}") long ttlSeconds,
+                         @Value("${response.cache.max-bytes:67108864}") long maxBytes) {
+        this.redisUtil = redisUtil;
+        this.enabled = enabled;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, CachedResponse response) -> response.weight())
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public boolean isCacheable(String path) {
+        return enabled && CACHEABLE_PATHS.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    public CachedResponse get(Key key) {
+        return responses.getIfPresent(key);
+    }
+
+    // 응답 생성 전에 조회한 generation
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(Key key, CachedResponse response, long startGeneration) {
+
+        if (generation.get() != startGeneration) {
+            return;
+        }
+
+        responses.put(key, response);
+
+        // 확인과 저장 사이에 삭제가 발생한 경우
+        if (generation.get() != startGeneration) {
+            responses.invalidate(key);
+        }
+    }
+
+    // 게시물 캐시(FeedCache)를 먼저 삭제한 뒤 실행되어야 삭제 직후 요청이 이전 값으로 다시 채우지 않음
+    // ETag(ChangeWatermark)는 응답 삭제 이후 갱신
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedChanged(FeedChangedEvent event) {
+        evictFeed(event);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+
+        evictProfile(event.userId());
+
+        try {
+            redisUtil.publish(PROFILE_CHANNEL, String.valueOf(event.userId()));
+        } catch (RuntimeException e) {
+            log.warn("프로필 변경을 전파하지 못했습니다. userId : {}", event.userId(), e);
+        }
+    }
+
+    // 다른 서버의 게시물 변경 (FeedCache.CHANNEL, FeedCache 삭제 이후 호출)
+    public void onFeedMessage(Message message, byte[] pattern) {
+
+        FeedChangedEvent event = FeedChangedEvent.fromMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+
+        if (event != null) {
+            evictFeed(event);
+        }
+    }
+
+    // 다른 서버의 프로필 변경 (PROFILE_CHANNEL)
+    public void onProfileMessage(Message message, byte[] pattern) {
+
+        try {
+            evictProfile(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 프로필 변경 메시지입니다. message : {}", message);
+        }
+    }
+
+    private void evictFeed(FeedChangedEvent event) {
+
+        String feedPath = FEED_PATH + event.feedId();
+        String commentsPath = feedPath + "/comments";
+
+        // 게시물 단건과 해당 게시물의 댓글(목록, 단건) 응답
+        Predicate<String> detail = path -> path.equals(feedPath) || path.equals(commentsPath) || path.startsWith(commentsPath + "/");
+        // 목록에는 좋아요 수가 포함되므로 댓글 변경(DETAIL)이 아니면 목록도 삭제
+        Predicate<String> target = event.scope() == FeedChangedEvent.Scope.DETAIL
+                ? detail
+                : detail.or(path -> path.equals(FEED_LIST_PATH));
+
+        evict(target);
+    }
+
+    private void evictProfile(Long userId) {
+
+        String profilePath = PROFILE_PATH + userId;
+
+        evict(path -> path.equals(profilePath));
+    }
+
+    // 저장된 응답 수는 maximumWeight로 제한되므로 전체를 확인
+    private void evict(Predicate<String> target) {
+
+        generation.incrementAndGet();
+        responses.asMap().keySet().removeIf(key -> target.test(key.path()));
+    }
+
+    public record Key(String path, String query) {
+    }
+
+    // headers : Content-Type, Content-Length, ETag 등 응답마다 다시 설정하는 헤더를 제외한 Controller 응답 헤더
+    // eTag : Controller가 발급한 ETag (없으면 null)
+    public record CachedResponse(String contentType, String eTag, Map<String, List<String>> headers, byte[] body, byte[] gzipBody) {
+
+        public static CachedResponse of(String contentType, String eTag, Map<String, List<String>> headers, byte[] body) {
+            return new CachedResponse(contentType, eTag, headers, body, gzip(body));
+        }
+
+        // 압축본은 다른 표현이므로 strong ETag도 구분 ("abc" → "abc-gzip")
+        public String eTag(boolean gzip) {
+
+            if (eTag == null || !gzip || !eTag.endsWith("\"")) {
+                return eTag;
+            }
+
+            return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+        }
+
+        int weight() {
+            return body.length + gzipBody.length;
+        }
+
+        private static byte[] gzip(byte[] body) {
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return out.toByteArray();
+        }
+    }
+}
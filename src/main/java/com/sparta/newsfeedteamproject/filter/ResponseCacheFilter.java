@@ -0,0 +1,172 @@
+package com.sparta.newsfeedteamproject.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+// 캐시 가능한 GET 요청은 저장된 응답 바이트를 출력 스트림에 바로 쓰고, 없으면 Controller 응답을 저장
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+    private static final String WEAK_PREFIX = "W/";
+    // 본문에 따라 응답마다 다시 설정하는 헤더
+    private static final Set<String> EXCLUDED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        EXCLUDED_HEADERS.addAll(List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH,
+                HttpHeaders.CONTENT_ENCODING, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.VARY, HttpHeaders.ETAG));
+    }
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheFilter(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || !responseCache.isCacheable(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        ResponseCache.Key key = new ResponseCache.Key(request.getRequestURI(), request.getQueryString());
+        ResponseCache.CachedResponse cached = responseCache.get(key);
+
+        if (cached != null) {
+            boolean gzip = acceptsGzip(request);
+            String eTag = cached.eTag(gzip);
+
+            // 저장된 응답과 같은 ETag를 가지고 있으면 본문 없이 304 응답
+            if (eTag != null && matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+                writeNotModified(response, eTag);
+            } else {
+                write(response, cached, gzip);
+            }
+            return;
+        }
+
+        long generation = responseCache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+
+        filterChain.doFilter(request, wrapper);
+
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK && isJson(wrapper.getContentType())) {
+            responseCache.put(key, ResponseCache.CachedResponse.of(wrapper.getContentType(), wrapper.getHeader(HttpHeaders.ETAG),
+                    headersOf(wrapper), wrapper.getContentAsByteArray()), generation);
+        }
+
+        wrapper.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        wrapper.copyBodyToResponse();
+    }
+
+    private void write(HttpServletResponse response, ResponseCache.CachedResponse cached, boolean gzip) throws IOException {
+
+        byte[] body = gzip ? cached.gzipBody() : cached.body();
+        String eTag = cached.eTag(gzip);
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        cached.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setContentType(cached.contentType());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (eTag != null) {
+            response.setHeader(HttpHeaders.ETAG, eTag);
+        }
+
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeNotModified(HttpServletResponse response, String eTag) {
+
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    // If-None-Match는 약한 비교 (W/ 접두어 무시)
+    private boolean matches(String ifNoneMatch, String eTag) {
+
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        String target = stripWeak(eTag);
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+
+            if ("*".equals(tag) || stripWeak(tag).equals(target)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private String stripWeak(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+
+    private Map<String, List<String>> headersOf(HttpServletResponse response) {
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+
+        for (String name : response.getHeaderNames()) {
+            if (!EXCLUDED_HEADERS.contains(name)) {
+                headers.put(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+
+        return headers;
+    }
+
+    // "gzip;q=0" 처럼 명시적으로 거부한 경우는 제외
+    private boolean acceptsGzip(HttpServletRequest request) {
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+
+            if (GZIP.equalsIgnoreCase(parts[0].trim())) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isJson(String contentType) {
+
+        try {
+            return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+}
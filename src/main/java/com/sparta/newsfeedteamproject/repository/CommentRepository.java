@@ -1,10 +1,69 @@
 package com.sparta.newsfeedteamproject.repository;
 
+import com.sparta.newsfeedteamproject.dto.comment.CommentResDto;
 import com.sparta.newsfeedteamproject.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findAllByFeedId(Long feedId);
-}
\ No newline at end of file
+
+    // 단건 조회 시 작성자를 함께 조회 (삭제 요청된 댓글 제외)
+    @Override
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<Comment> findById(@Param("id") Long id);
+
+    // ETag 확인용 - 엔티티를 조회하지 않고 버전만 조회 (삭제 요청된 게시물의 댓글 제외)
+    @Query("SELECT c.version FROM Comment c WHERE c.id = :id AND c.feed.id = :feedId " +
+            "AND c.deletedAt IS NULL AND c.feed.deletedAt IS NULL")
+    Optional<Long> findVersionById(@Param("feedId") Long feedId, @Param("id") Long id);
+
+    // 작성자를 fetch join 하여 댓글 수와 관계없이 1번의 쿼리로 조회
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.feed.id = :feedId")
+    List<Comment> findAllByFeedId(@Param("feedId") Long feedId);
+
+    String COMMENT_RES_DTO_SELECT = "SELECT new com.sparta.newsfeedteamproject.dto.comment.CommentResDto(" +
+            "c.id, c.contents, c.likes, c.createdAt, c.modifiedAt, u.username, c.feed.id) " +
+            "FROM Comment c JOIN c.user u ";
+
+    // 게시물 단건 조회용 CommentResDto Projection
+    @Query(COMMENT_RES_DTO_SELECT +
+            "WHERE c.feed.id = :feedId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResDto> findCommentResDtosByFeedId(@Param("feedId") Long feedId);
+
+    // Keyset Pagination - (feed_id, created_at, id) 오름차순
+    @Query(COMMENT_RES_DTO_SELECT +
+            "WHERE c.feed.id = :feedId " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResDto> findCommentsOrderByCreatedAt(@Param("feedId") Long feedId, Pageable pageable);
+
+    @Query(COMMENT_RES_DTO_SELECT +
+            "WHERE c.feed.id = :feedId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResDto> findCommentsAfterCursor(@Param("feedId") Long feedId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    // 삭제 요청된 게시물의 댓글 id를 limit개씩 조회
+    @Query(value = "SELECT id FROM comment WHERE feed_id = :feedId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findCommentIdsByFeedId(@Param("feedId") Long feedId, @Param("limit") int limit);
+
+    // 실제 삭제 대상(삭제 요청된) 댓글 id 조회
+    @Query(value = "SELECT id FROM comment WHERE deleted_at IS NOT NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedCommentIds(@Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM comment WHERE id IN (:ids)", nativeQuery = true)
+    int purgeAllByIdIn(@Param("ids") List<Long> ids);
+}
@@ -1,12 +1,67 @@
 package com.sparta.newsfeedteamproject.repository;
 
+import com.sparta.newsfeedteamproject.dto.feed.FeedResDto;
 import com.sparta.newsfeedteamproject.entity.Feed;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface FeedRepository extends JpaRepository<Feed, Long> {
-    Page<Feed> findAllByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
-}
\ No newline at end of file
+
+    // 단건 조회 시 작성자를 함께 조회 (삭제 요청된 게시물 제외)
+    @Override
+    @Query("SELECT f FROM Feed f JOIN FETCH f.user WHERE f.id = :id AND f.deletedAt IS NULL")
+    Optional<Feed> findById(@Param("id") Long id);
+
+    // 목록 조회는 FeedResDto로 바로 Projection 하여 엔티티 생성 및 작성자 추가 조회 없이 users와 1번만 JOIN
+    String FEED_RES_DTO_SELECT = "SELECT new com.sparta.newsfeedteamproject.dto.feed.FeedResDto(" +
+            "f.id, u.username, f.contents, f.likes, f.createdAt, f.modifiedAt) " +
+            "FROM Feed f JOIN f.user u ";
+
+    // Slice 조회 - COUNT 쿼리 없이 다음 페이지 존재 여부(hasNext)만 확인
+    @Query(FEED_RES_DTO_SELECT)
+    Slice<FeedResDto> findSliceBy(Pageable pageable);
+
+    @Query(FEED_RES_DTO_SELECT + "WHERE f.createdAt BETWEEN :startDate AND :endDate")
+    Slice<FeedResDto> findSliceByCreatedAtBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate, Pageable pageable);
+
+    // 인기 순위(HotFeedRanking)의 게시물을 PK로 조회 (순서는 호출한 쪽에서 맞춤)
+    @Query(FEED_RES_DTO_SELECT + "WHERE f.id IN :ids")
+    List<FeedResDto> findFeedsByIdIn(@Param("ids") List<Long> ids);
+
+    // Keyset Pagination - 생성일자 기준 (created_at, id) 내림차순
+    @Query(FEED_RES_DTO_SELECT + "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FeedResDto> findFeedsOrderByCreatedAt(Pageable pageable);
+
+    @Query(FEED_RES_DTO_SELECT +
+            "WHERE f.createdAt < :createdAt OR (f.createdAt = :createdAt AND f.id < :id) " +
+            "ORDER BY f.createdAt DESC, f.id DESC")
+    List<FeedResDto> findFeedsBeforeCreatedAtCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // Keyset Pagination - 좋아요 수 기준 (likes, id) 내림차순
+    @Query(FEED_RES_DTO_SELECT + "ORDER BY f.likes DESC, f.id DESC")
+    List<FeedResDto> findFeedsOrderByLikes(Pageable pageable);
+
+    @Query(FEED_RES_DTO_SELECT +
+            "WHERE f.likes < :likes OR (f.likes = :likes AND f.id < :id) " +
+            "ORDER BY f.likes DESC, f.id DESC")
+    List<FeedResDto> findFeedsBeforeLikesCursor(@Param("likes") Long likes, @Param("id") Long id, Pageable pageable);
+
+    // 실제 삭제 대상(삭제 요청된) 게시물 id 조회
+    @Query(value = "SELECT id FROM NewsFeed WHERE deleted_at IS NOT NULL ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedFeedIds(@Param("limit") int limit);
+
+    // 좋아요, 댓글을 모두 정리한 뒤 게시물 실제 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM NewsFeed WHERE id = :id AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeById(@Param("id") Long id);
+}
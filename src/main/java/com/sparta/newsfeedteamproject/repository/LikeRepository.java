@@ -4,7 +4,11 @@ import com.sparta.newsfeedteamproject.entity.Contents;
 import com.sparta.newsfeedteamproject.entity.Like;
 import com.sparta.newsfeedteamproject.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,4 +17,29 @@ import java.util.Optional;
 public interface LikeRepository extends JpaRepository<Like, Long> {
     Optional<Like> findByContentsIdAndContentsAndUser(Long contentId, Contents contents, User user);
     Optional<List<Like>> findAllByContentsIdAndContents(Long contentId, Contents contents);
+    long countByContentsIdAndContents(Long contentId, Contents contents);
+
+    // 좋아요를 조회하지 않고 한 번에 삭제
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.contents = :contents AND l.contentsId IN :contentsIds")
+    int deleteAllByContentsAndContentsIdIn(@Param("contents") Contents contents, @Param("contentsIds") List<Long> contentsIds);
+
+    // 삭제 요청된 게시물/댓글의 좋아요를 limit개씩 실제 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM likes WHERE contents_type = :contentsType AND contents_id IN (:contentsIds) LIMIT :limit", nativeQuery = true)
+    int purgeLikes(@Param("contentsType") String contentsType, @Param("contentsIds") List<Long> contentsIds, @Param("limit") int limit);
+
+    // 이미 좋아요한 경우 유니크 키에 의해 무시되어 0 반환, 새로 등록된 경우 1 반환
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (user_id, contents_type, contents_id, created_at, modified_at) " +
+            "VALUES (:userId, :contentsType, :contentsId, NOW(6), NOW(6))", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("contentsType") String contentsType, @Param("contentsId") Long contentsId);
+
+    // 좋아요하지 않은 상태면 0 반환, 취소된 경우 1 반환
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.contents = :contents AND l.contentsId = :contentsId")
+    int deleteByUserIdAndContents(@Param("userId") Long userId, @Param("contents") Contents contents, @Param("contentsId") Long contentsId);
 }
\ No newline at end of file
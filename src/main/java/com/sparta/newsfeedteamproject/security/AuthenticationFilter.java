@@ -1,12 +1,13 @@
 package com.sparta.newsfeedteamproject.security;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.newsfeedteamproject.config.JwtConfig;
 import com.sparta.newsfeedteamproject.dto.MessageResDto;
 import com.sparta.newsfeedteamproject.dto.user.UserAuthReqDto;
-import com.sparta.newsfeedteamproject.entity.Status;
-import com.sparta.newsfeedteamproject.exception.ExceptionMessage;
+import com.sparta.newsfeedteamproject.entity.User;
 import com.sparta.newsfeedteamproject.exception.FilterExceptionHandler;
+import com.sparta.newsfeedteamproject.exception.TooManyRequestsException;
 import com.sparta.newsfeedteamproject.util.JwtProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -14,8 +15,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AccountStatusException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -25,12 +24,19 @@ import java.io.IOException;
 
 @Slf4j(topic = "로그인 및 JWT 생성")
 public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
+    private static final String LOGIN_USERNAME_ATTRIBUTE = AuthenticationFilter.class.getName() + ".username";
+
     private final JwtProvider jwtProvider;
-    private final UserDetailsServiceImpl userDetailsService;
+    private final ObjectMapper objectMapper;
+    private final LoginRateLimiter loginRateLimiter;
+    // 로그인 성공 응답은 항상 같으므로 한 번만 직렬화
+    private final byte[] loginSuccessBody;
 
-    public AuthenticationFilter(JwtProvider jwtProvider, UserDetailsServiceImpl userDetailsService) {
+    public AuthenticationFilter(JwtProvider jwtProvider, ObjectMapper objectMapper, LoginRateLimiter loginRateLimiter) {
         this.jwtProvider = jwtProvider;
-        this.userDetailsService = userDetailsService;
+        this.objectMapper = objectMapper;
+        this.loginRateLimiter = loginRateLimiter;
+        this.loginSuccessBody = serialize(new MessageResDto<>(HttpStatus.NO_CONTENT.value(), "로그인 성공", null));
         setFilterProcessesUrl("/users/login");
     }
 
@@ -39,33 +45,13 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
         log.info("로그인 시도");
 
         try {
-            UserAuthReqDto requestDto = new ObjectMapper().readValue(request.getInputStream(), UserAuthReqDto.class);
-            //로그인 시도
-
-            Status userStatus = (((UserDetailsImpl) userDetailsService.loadUserByUsername(requestDto.getUsername())).getUser()).getStatus();
-            //유저 상태 확인 (탈퇴한 회원)
-            if (Status.DEACTIVATE.equals(userStatus)) {
-                log.error("탈퇴한 회원");
-                throw new AccountStatusException(ExceptionMessage.DEATIVATE_USER.getExceptionMessage()) {
-                    @Override
-                    public String getMessage() {
-                        return super.getMessage();
-                    }
-                };
-            }
-
-            //유저 상태 확인 (미 인증 회원)
-            if (Status.UNAUTHORIZED.equals(userStatus)) {
-                log.error("미 인증한 회원");
-                throw new AccountStatusException(ExceptionMessage.UNAUTHORIZED_USER.getExceptionMessage()) {
-                    @Override
-                    public String getMessage() {
-                        return super.getMessage();
-                    }
-                };
-            }
-
-            //정상 일 때 로그인 시도
+            UserAuthReqDto requestDto = objectMapper.readValue(request.getInputStream(), UserAuthReqDto.class);
+
+            //실패 횟수 초과 시 DB 조회, 비밀번호 검증 없이 거부
+            loginRateLimiter.checkAllowed(requestDto.getUsername(), request.getRemoteAddr());
+            request.setAttribute(LOGIN_USERNAME_ATTRIBUTE, requestDto.getUsername());
+
+            //로그인 시도 (사용자 조회, 상태 확인, 비밀번호 검증은 UserAuthenticationProvider에서 한 번에 처리)
             return getAuthenticationManager().authenticate(
                     new UsernamePasswordAuthenticationToken(
                             requestDto.getUsername(),
@@ -74,9 +60,11 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
                     )
             );
 
-        } catch (IOException | AccountStatusException e) {
+        } catch (IOException e) {
             log.error(e.getMessage());
             FilterExceptionHandler.handleExceptionInFilter(response, e);
+        } catch (TooManyRequestsException e) {
+            FilterExceptionHandler.handleTooManyRequestsInFilter(response, e);
         }
         return null;
     }
@@ -85,29 +73,49 @@ public class AuthenticationFilter extends UsernamePasswordAuthenticationFilter {
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Authentication authResult) throws IOException, ServletException {
         log.info("로그인 성공");
 
-        String username = ((UserDetailsImpl) authResult.getPrincipal()).getUsername();
-        Status status = ((UserDetailsImpl) authResult.getPrincipal()).getUser().getStatus();
+        // 인증 과정에서 조회한 사용자를 그대로 사용
+        User user = ((UserDetailsImpl) authResult.getPrincipal()).getUser();
+        loginRateLimiter.recordSuccess(user.getUsername());
 
-        String accesstoken = jwtProvider.createAccessToken(username, status);
-        String refreshtoken = jwtProvider.createRefreshToken(username, status);
+        String accesstoken = jwtProvider.createAccessToken(user.getId(), user.getUsername(), user.getStatus());
+        String refreshtoken = jwtProvider.createRefreshToken(user.getUsername(), user.getStatus());
 
         log.info("JWT 생성");
 
         response.addHeader(JwtConfig.ACCESS_TOKEN_HEADER, accesstoken);
         response.addHeader(JwtConfig.REFRESH_TOKEN_HEADER, refreshtoken);
 
-        MessageResDto messageResDto = new MessageResDto(HttpStatus.NO_CONTENT.value(), "로그인 성공", null);
-        ResponseEntity<MessageResDto> responseDto = new ResponseEntity<>(messageResDto, HttpStatus.OK);
         response.setStatus(HttpServletResponse.SC_OK);
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
-        response.getWriter().write(new ObjectMapper().writeValueAsString(responseDto.getBody()));
+        response.setContentLength(loginSuccessBody.length);
+        response.getOutputStream().write(loginSuccessBody);
     }
 
     @Override
     protected void unsuccessfulAuthentication(HttpServletRequest request, HttpServletResponse response, AuthenticationException failed) throws IOException, ServletException {
         log.info("로그인 실패");
+
+        // 사용자 조회 중 해싱 대기열 초과로 거부된 경우
+        if (failed.getCause() instanceof TooManyRequestsException tooManyRequestsException) {
+            FilterExceptionHandler.handleTooManyRequestsInFilter(response, tooManyRequestsException);
+            return;
+        }
+
+        Object username = request.getAttribute(LOGIN_USERNAME_ATTRIBUTE);
+        if (username != null) {
+            loginRateLimiter.recordFailure(username.toString(), request.getRemoteAddr());
+        }
+
         response.setStatus(401);
         FilterExceptionHandler.handleExceptionInFilter(response, failed);
     }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
\ No newline at end of file
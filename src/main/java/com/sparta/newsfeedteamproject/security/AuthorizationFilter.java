@@ -4,6 +4,7 @@ import com.sparta.newsfeedteamproject.config.JwtConfig;
 import com.sparta.newsfeedteamproject.exception.ExceptionMessage;
 import com.sparta.newsfeedteamproject.exception.FilterExceptionHandler;
 import com.sparta.newsfeedteamproject.util.JwtProvider;
+import com.sparta.newsfeedteamproject.util.TokenVerification;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
@@ -21,17 +22,20 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Objects;
 
 @Slf4j(topic = "JWT 검증 및 인가")
 public class AuthorizationFilter extends OncePerRequestFilter {
     private final String[] whiteList = {"/users/signup", "/users/login", "/feeds/all", "/users/signup/**"};
     private final JwtProvider jwtProvider;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RefreshTokenStore refreshTokenStore;
 
-    public AuthorizationFilter(JwtProvider jwtProvider, UserDetailsServiceImpl userDetailsService) {
+    public AuthorizationFilter(JwtProvider jwtProvider, UserDetailsServiceImpl userDetailsService, TokenRevocationStore tokenRevocationStore, RefreshTokenStore refreshTokenStore) {
         this.jwtProvider = jwtProvider;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.refreshTokenStore = refreshTokenStore;
     }
 
     @Override
@@ -46,34 +50,50 @@ public class AuthorizationFilter extends OncePerRequestFilter {
                     String accessTokenValue = jwtProvider.substringToken(raw_accessTokenValue);
                     String refreshTokenValue = jwtProvider.substringToken(raw_refreshTokenValue);
 
-                    //둘 다 유효하지 않을 때
-                    if (!jwtProvider.isTokenValidate(accessTokenValue) && !jwtProvider.isTokenValidate(refreshTokenValue)) {
-                        throw new IllegalArgumentException(ExceptionMessage.UNVALID_TOKEN.getExceptionMessage());
-                    }
+                    TokenVerification accessToken = jwtProvider.verify(accessTokenValue);
+                    UserDetailsImpl userDetailsImpl;
+
+                    if (isStatelessAuthenticatable(accessToken)) {
+                        // access token이 유효하면 DB 조회 없이 토큰 정보로 인증 처리
+                        userDetailsImpl = new UserDetailsImpl(jwtProvider.getUserFromClaims(accessToken.getClaims()));
 
-                    Claims info = jwtProvider.getUserInfoFromToken(refreshTokenValue);
+                        //로그아웃 요청일 땐 Header에 토큰 추가 X
+                        if (!isLogoutRequest(req)) {
+                            res.addHeader(JwtConfig.ACCESS_TOKEN_HEADER, raw_accessTokenValue);
+                            res.addHeader(JwtConfig.REFRESH_TOKEN_HEADER, raw_refreshTokenValue);
+                        }
+                    } else {
+                        // access token이 만료/폐기된 경우에만 refresh token을 DB와 비교
+                        TokenVerification refreshToken = jwtProvider.verify(refreshTokenValue);
+
+                        //refresh token이 만료되었을 때
+                        if (refreshToken.isExpired()) {
+                            FilterExceptionHandler.handleJwtExceptionInFilter(res, ExceptionMessage.EXPIRATION_TOKEN);
+                            return;
+                        }
 
-                    UserDetailsImpl userDetailsImpl = (UserDetailsImpl) userDetailsService.loadUserByUsername(info.getSubject());
+                        //둘 다 유효하지 않을 때
+                        if (!refreshToken.isValid()) {
+                            throw new IllegalArgumentException(ExceptionMessage.UNVALID_TOKEN.getExceptionMessage());
+                        }
 
-                    //DB의 refreshtoken과 같은지 비교 (조작된 토큰인지 확인)
-                    if (!(Objects.equals(refreshTokenValue, jwtProvider.substringToken((userDetailsImpl.getUser().getRefreshToken()))))) {
-                        throw new IllegalArgumentException(ExceptionMessage.UNVALID_TOKEN.getExceptionMessage());
-                    }
+                        Claims info = refreshToken.getClaims();
 
-                    //로그아웃 요청일 땐 Header에 토큰 추가 X
-                    if (!req.getRequestURI().matches("/users/logout/\\d+")) {
-                        if ((!jwtProvider.isTokenValidate(accessTokenValue) && jwtProvider.isTokenValidate(refreshTokenValue))) { //refresh만 정상일 때
+                        //저장된 refresh token과 같은지 비교 (조작되거나 로그아웃된 토큰인지 확인)
+                        if (!refreshTokenStore.matches(info.getSubject(), refreshTokenValue)) {
+                            throw new IllegalArgumentException(ExceptionMessage.UNVALID_TOKEN.getExceptionMessage());
+                        }
+
+                        userDetailsImpl = (UserDetailsImpl) userDetailsService.loadUserByUsername(info.getSubject());
 
-                            //토큰 재생성
-                            jwtProvider.reCreateTokens(info.getSubject(), res);
+                        //로그아웃 요청일 땐 토큰 재생성 X
+                        if (!isLogoutRequest(req)) {
+                            jwtProvider.reCreateTokens(userDetailsImpl.getUser(), res);
                             log.info("토큰 재생성 완료");
-                        } else { //두 토큰 다 정상일 때
-                            res.addHeader(JwtConfig.ACCESS_TOKEN_HEADER, raw_accessTokenValue);
-                            res.addHeader(JwtConfig.REFRESH_TOKEN_HEADER, raw_refreshTokenValue);
                         }
                     }
 
-                    setAuthentication(info.getSubject());
+                    setAuthentication(userDetailsImpl);
 
 
                 } else {
@@ -97,20 +117,30 @@ public class AuthorizationFilter extends OncePerRequestFilter {
     }
 
     // 인증 처리
-    public void setAuthentication(String username) {
+    public void setAuthentication(UserDetails userDetails) {
         SecurityContext context = SecurityContextHolder.createEmptyContext();
-        Authentication authentication = createAuthentication(username);
+        Authentication authentication = createAuthentication(userDetails);
         context.setAuthentication(authentication);
 
         SecurityContextHolder.setContext(context);
     }
 
     // 인증 객체 생성
-    private Authentication createAuthentication(String username) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+    private Authentication createAuthentication(UserDetails userDetails) {
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 
+    // 사용자 id가 포함된 유효한 access token이고 로그아웃/탈퇴로 폐기되지 않았을 때
+    private boolean isStatelessAuthenticatable(TokenVerification accessToken) {
+        return accessToken.isValid()
+                && accessToken.getClaims().get(JwtConfig.USER_ID_KEY) != null
+                && !tokenRevocationStore.isRevoked(accessToken.getClaims());
+    }
+
+    private boolean isLogoutRequest(HttpServletRequest req) {
+        return req.getRequestURI().matches("/users/logout/\\d+");
+    }
+
     private boolean whiteListCheck(String uri) {
         return PatternMatchUtils.simpleMatch(whiteList, uri);
     }
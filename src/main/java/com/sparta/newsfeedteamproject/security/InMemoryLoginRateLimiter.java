@@ -0,0 +1,108 @@
+package com.sparta.newsfeedteamproject.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 테스트 및 단일 서버용 메모리 저장소 (키별 최근 실패 시각을 슬라이딩 윈도우로 유지)
+@Component
+@ConditionalOnProperty(name = "login.rate-limit.store", havingValue = "memory")
+public class InMemoryLoginRateLimiter implements LoginRateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final LoginRateLimitPolicy policy;
+    // 마지막 실패 이후 window가 지난 키는 자동 제거
+    private final Cache<String, Deque<Long>> failures;
+    // 같은 키의 실패 기록 추가와 조회가 겹치지 않도록 키 단위로 나눈 락
+    private final Lock[] locks = new Lock[STRIPES];
+
+    public InMemoryLoginRateLimiter(LoginRateLimitPolicy policy) {
+        this.policy = policy;
+        this.failures = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(policy.getWindowMillis()))
+                .build();
+
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public void checkAllowed(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+
+        policy.checkLockout(Math.max(
+                remainingLockout(userKey(username), policy.getUserMaxFailures(), now),
+                remainingLockout(ipKey(clientIp), policy.getIpMaxFailures(), now)));
+    }
+
+    @Override
+    public void recordFailure(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+
+        addFailure(userKey(username), now);
+        addFailure(ipKey(clientIp), now);
+    }
+
+    @Override
+    public void recordSuccess(String username) {
+        failures.invalidate(userKey(username));
+    }
+
+    private long remainingLockout(String key, int maxFailures, long now) {
+        Lock lock = lockFor(key);
+        lock.lock();
+        try {
+            Deque<Long> timestamps = failures.getIfPresent(key);
+
+            if (timestamps == null) {
+                return 0L;
+            }
+
+            evictExpired(timestamps, now);
+            return timestamps.isEmpty() ? 0L : policy.remainingLockoutMillis(timestamps.size(), timestamps.peekLast(), maxFailures, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addFailure(String key, long now) {
+        Lock lock = lockFor(key);
+        lock.lock();
+        try {
+            Deque<Long> timestamps = failures.get(key, k -> new ArrayDeque<>());
+            evictExpired(timestamps, now);
+            timestamps.addLast(now);
+            // 마지막 실패 기준으로 만료 시간 갱신
+            failures.put(key, timestamps);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictExpired(Deque<Long> timestamps, long now) {
+        while (!timestamps.isEmpty() && timestamps.peekFirst() <= now - policy.getWindowMillis()) {
+            timestamps.pollFirst();
+        }
+    }
+
+    private Lock lockFor(String key) {
+        return locks[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+
+    private String userKey(String username) {
+        return "user:" + username;
+    }
+
+    private String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+}
@@ -0,0 +1,39 @@
+package com.sparta.newsfeedteamproject.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+
+// 테스트 및 단일 서버용 메모리 저장소 (서버 재시작 시 모든 사용자가 다시 로그인해야 함)
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Cache<String, String> refreshTokens;
+
+    public InMemoryRefreshTokenStore(@Value("${jwt.refresh.time}") long refreshTokenTime) {
+        this.refreshTokens = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(refreshTokenTime))
+                .build();
+    }
+
+    @Override
+    public void save(String username, String refreshToken) {
+        refreshTokens.put(username, refreshToken);
+    }
+
+    @Override
+    public boolean matches(String username, String refreshToken) {
+        return Objects.equals(refreshToken, refreshTokens.getIfPresent(username));
+    }
+
+    @Override
+    public void delete(String username) {
+        refreshTokens.invalidate(username);
+    }
+}
@@ -0,0 +1,50 @@
+package com.sparta.newsfeedteamproject.security;
+
+import com.sparta.newsfeedteamproject.exception.TooManyRequestsException;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 최근 window 동안의 실패 횟수가 허용치 이상이면 마지막 실패 시점부터 점진적으로(2배씩) 늘어나는 시간 동안 잠금
+@Getter
+@Component
+public class LoginRateLimitPolicy {
+
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final long windowMillis;
+    private final int userMaxFailures;
+    private final int ipMaxFailures;
+    private final long baseLockoutMillis;
+    private final long maxLockoutMillis;
+
+    public LoginRateLimitPolicy(@Value("${login.rate-limit.window:600}") long windowSeconds,
+                                @Value("${login.rate-limit.user-max-failures:5}") int userMaxFailures,
+                                @Value("${login.rate-limit.ip-max-failures:20}") int ipMaxFailures,
+                                @Value("${login.rate-limit.base-lockout:1}") long baseLockoutSeconds,
+                                @Value("${login.rate-limit.max-lockout:900}") long maxLockoutSeconds) {
+        this.windowMillis = windowSeconds * 1000;
+        this.userMaxFailures = userMaxFailures;
+        this.ipMaxFailures = ipMaxFailures;
+        this.baseLockoutMillis = baseLockoutSeconds * 1000;
+        this.maxLockoutMillis = maxLockoutSeconds * 1000;
+    }
+
+    // 허용치 이상 실패한 경우 남은 잠금 시간(ms), 잠금이 아니면 0
+    public long remainingLockoutMillis(int failures, long lastFailureAt, int maxFailures, long now) {
+        if (failures < maxFailures) {
+            return 0L;
+        }
+
+        int shift = Math.min(failures - maxFailures, MAX_BACKOFF_SHIFT);
+        long lockout = Math.min(baseLockoutMillis << shift, maxLockoutMillis);
+
+        return Math.max(0L, lastFailureAt + lockout - now);
+    }
+
+    public void checkLockout(long remainingMillis) {
+        if (remainingMillis > 0) {
+            throw new TooManyRequestsException((remainingMillis + 999) / 1000);
+        }
+    }
+}
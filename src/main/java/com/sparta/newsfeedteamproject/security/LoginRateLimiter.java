@@ -0,0 +1,13 @@
+package com.sparta.newsfeedteamproject.security;
+
+// 사용자 이름, 클라이언트 IP별 로그인 실패 제한 (login.rate-limit.store=redis | memory)
+public interface LoginRateLimiter {
+
+    // 잠금 상태이면 DB 조회, 비밀번호 검증 전에 TooManyRequestsException
+    void checkAllowed(String username, String clientIp);
+
+    void recordFailure(String username, String clientIp);
+
+    // 로그인 성공 시 사용자 이름의 실패 기록 제거 (IP 기록은 유지)
+    void recordSuccess(String username);
+}
@@ -0,0 +1,89 @@
+package com.sparta.newsfeedteamproject.security;
+
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+// 여러 서버가 실패 기록을 공유하도록 키별 실패 시각을 Redis sorted set(score = 실패 시각)으로 유지
+@Slf4j(topic = "RedisLoginRateLimiter")
+@Component
+@ConditionalOnProperty(name = "login.rate-limit.store", havingValue = "redis", matchIfMissing = true)
+public class RedisLoginRateLimiter implements LoginRateLimiter {
+
+    private static final String KEY_PREFIX = "login:fail:";
+
+    private final RedisUtil redisUtil;
+    private final LoginRateLimitPolicy policy;
+
+    public RedisLoginRateLimiter(RedisUtil redisUtil, LoginRateLimitPolicy policy) {
+        this.redisUtil = redisUtil;
+        this.policy = policy;
+    }
+
+    @Override
+    public void checkAllowed(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        long remaining;
+
+        // Redis 장애 시에는 로그인 자체를 막지 않음 (비밀번호 해싱은 BoundedPasswordEncoder가 제한)
+        try {
+            remaining = Math.max(
+                    remainingLockout(userKey(username), policy.getUserMaxFailures(), now),
+                    remainingLockout(ipKey(clientIp), policy.getIpMaxFailures(), now));
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 기록을 조회하지 못했습니다.", e);
+            return;
+        }
+
+        policy.checkLockout(remaining);
+    }
+
+    @Override
+    public void recordFailure(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+
+        try {
+            addFailure(userKey(username), now);
+            addFailure(ipKey(clientIp), now);
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 기록을 저장하지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public void recordSuccess(String username) {
+        try {
+            redisUtil.deleteData(userKey(username));
+        } catch (RuntimeException e) {
+            log.warn("로그인 실패 기록을 삭제하지 못했습니다.", e);
+        }
+    }
+
+    private long remainingLockout(String key, int maxFailures, long now) {
+        redisUtil.removeSortedSetRangeByScore(key, 0, now - policy.getWindowMillis());
+        long failures = redisUtil.getSortedSetSize(key);
+
+        if (failures == 0) {
+            return 0L;
+        }
+
+        Double lastFailureAt = redisUtil.getSortedSetMaxScore(key);
+        return lastFailureAt == null ? 0L : policy.remainingLockoutMillis((int) failures, lastFailureAt.longValue(), maxFailures, now);
+    }
+
+    private void addFailure(String key, long now) {
+        // 같은 시각의 실패도 각각 기록되도록 member는 고유하게 생성
+        redisUtil.addToSortedSet(key, now + ":" + UUID.randomUUID(), now, policy.getWindowMillis() / 1000);
+    }
+
+    private String userKey(String username) {
+        return KEY_PREFIX + "user:" + username;
+    }
+
+    private String ipKey(String clientIp) {
+        return KEY_PREFIX + "ip:" + clientIp;
+    }
+}
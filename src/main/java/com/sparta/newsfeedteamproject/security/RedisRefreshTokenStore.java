@@ -0,0 +1,39 @@
+package com.sparta.newsfeedteamproject.security;
+
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+// 여러 서버가 같은 refresh token을 공유하도록 Redis에 저장 (refresh token 유효 시간이 지나면 자동 삭제)
+@Component
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "refresh:";
+
+    private final RedisUtil redisUtil;
+    private final long refreshTokenSeconds;
+
+    public RedisRefreshTokenStore(RedisUtil redisUtil, @Value("${jwt.refresh.time}") long refreshTokenTime) {
+        this.redisUtil = redisUtil;
+        this.refreshTokenSeconds = refreshTokenTime / 1000;
+    }
+
+    @Override
+    public void save(String username, String refreshToken) {
+        redisUtil.setDataExpire(KEY_PREFIX + username, refreshToken, refreshTokenSeconds);
+    }
+
+    @Override
+    public boolean matches(String username, String refreshToken) {
+        return Objects.equals(refreshToken, redisUtil.getData(KEY_PREFIX + username));
+    }
+
+    @Override
+    public void delete(String username) {
+        redisUtil.deleteData(KEY_PREFIX + username);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sparta.newsfeedteamproject.security;
+
+// 사용자별 refresh token 저장소 (jwt.refresh.store=redis | memory)
+public interface RefreshTokenStore {
+
+    // refreshToken은 Bearer 접두사를 제외한 토큰 값
+    void save(String username, String refreshToken);
+
+    boolean matches(String username, String refreshToken);
+
+    void delete(String username);
+}
@@ -0,0 +1,142 @@
+package com.sparta.newsfeedteamproject.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.newsfeedteamproject.config.JwtConfig;
+import com.sparta.newsfeedteamproject.util.BloomFilter;
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+// 로그아웃, 탈퇴한 사용자의 기존 access token을 DB 조회 없이 거부하기 위한 사용자별 폐기 시각
+// 1차로 메모리의 Bloom filter에서 O(1)로 확인하고, 양성인 경우에만 정확한 폐기 시각(로컬 캐시 -> Redis)을 조회
+@Slf4j(topic = "TokenRevocationStore")
+@Component
+public class TokenRevocationStore implements MessageListener {
+
+    public static final String CHANNEL = "token:revoked";
+    private static final String KEY_PREFIX = "token:revoked:";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RedisUtil redisUtil;
+    private final long accessTokenTime;
+    private final int expectedInsertions;
+    // 폐기 시각 이전에 발급된 access token은 access token 유효 시간이 지나면 모두 만료되므로 그 이후에는 유지할 필요 없음
+    // 필터와 같은 수(expectedInsertions)까지만 보관하고, 밀려난 사용자는 필터 양성일 때 Redis에서 다시 조회
+    private final Cache<Long, Long> revokedAt;
+    // access token 유효 시간마다 세대를 교체하여 만료된 폐기 정보가 필터에서 제거되도록 두 세대를 함께 확인
+    private volatile BloomFilter currentFilter;
+    private volatile BloomFilter previousFilter;
+
+    public TokenRevocationStore(RedisUtil redisUtil,
+                                @Value("${jwt.access.time}") long accessTokenTime,
+                                @Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions) {
+        this.redisUtil = redisUtil;
+        this.accessTokenTime = accessTokenTime;
+        this.expectedInsertions = expectedInsertions;
+        this.revokedAt = Caffeine.newBuilder()
+                .maximumSize(expectedInsertions)
+                .expireAfterWrite(Duration.ofMillis(accessTokenTime))
+                .build();
+        this.currentFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+        this.previousFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    public void revokeTokens(Long userId) {
+        long revokedTime = System.currentTimeMillis();
+        record(userId, revokedTime);
+
+        // 다른 서버에서도 거부되도록 Redis에 저장하고 폐기 사실을 전파
+        try {
+            redisUtil.setDataExpire(KEY_PREFIX + userId, String.valueOf(revokedTime), accessTokenTime / 1000);
+            redisUtil.publish(CHANNEL, userId + ":" + revokedTime);
+        } catch (RuntimeException e) {
+            log.warn("토큰 폐기 정보를 Redis에 저장하지 못했습니다. userId : {}", userId, e);
+        }
+    }
+
+    // 폐기 시각 이전(같은 초 포함)에 발급된 토큰이면 true
+    public boolean isRevoked(Claims claims) {
+        Long userId = claims.get(JwtConfig.USER_ID_KEY, Long.class);
+
+        if (userId == null || !mightBeRevoked(userId)) {
+            return false;
+        }
+
+        Long revokedTime = revokedAt.getIfPresent(userId);
+        if (revokedTime == null) {
+            revokedTime = loadRevokedTime(userId);
+        }
+        Date issuedAt = claims.getIssuedAt();
+
+        return revokedTime != null && (issuedAt == null || issuedAt.getTime() <= revokedTime);
+    }
+
+    // 다른 서버에서 발생한 폐기 전파 ("userId:revokedAt")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+
+        try {
+            record(Long.parseLong(body[0]), Long.parseLong(body[1]));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 토큰 폐기 메시지 입니다. {}", String.join(":", body));
+        }
+    }
+
+    // 서버 시작 전에 폐기된 사용자를 필터에 반영
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            for (String key : redisUtil.scanKeys(KEY_PREFIX + "*")) {
+                currentFilter.put(Long.parseLong(key.substring(KEY_PREFIX.length())));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Redis에서 토큰 폐기 정보를 불러오지 못했습니다.", e);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${jwt.access.time}", initialDelayString = "${jwt.access.time}")
+    public synchronized void rotate() {
+        previousFilter = currentFilter;
+        currentFilter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    private void record(Long userId, long revokedTime) {
+        revokedAt.asMap().merge(userId, revokedTime, Math::max);
+        currentFilter.put(userId);
+    }
+
+    private boolean mightBeRevoked(Long userId) {
+        return currentFilter.mightContain(userId) || previousFilter.mightContain(userId);
+    }
+
+    // Bloom filter 양성이지만 로컬에 없는 경우 (다른 서버에서 폐기된 후 로컬 캐시가 비어 있거나 오탐)
+    private Long loadRevokedTime(Long userId) {
+        try {
+            String value = redisUtil.getData(KEY_PREFIX + userId);
+
+            if (value == null) {
+                return null;
+            }
+
+            long revokedTime = Long.parseLong(value);
+            revokedAt.asMap().merge(userId, revokedTime, Math::max);
+            return revokedTime;
+        } catch (RuntimeException e) {
+            log.warn("Redis에서 토큰 폐기 정보를 조회하지 못했습니다. userId : {}", userId, e);
+            return null;
+        }
+    }
+}
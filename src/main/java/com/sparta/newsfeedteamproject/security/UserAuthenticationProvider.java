@@ -0,0 +1,39 @@
+package com.sparta.newsfeedteamproject.security;
+
+import com.sparta.newsfeedteamproject.entity.Status;
+import com.sparta.newsfeedteamproject.exception.ExceptionMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 로그인 시 사용자를 한 번만 조회하여 상태 확인과 비밀번호 검증을 함께 처리
+@Slf4j(topic = "로그인 인증")
+public class UserAuthenticationProvider extends DaoAuthenticationProvider {
+
+    public UserAuthenticationProvider(UserDetailsServiceImpl userDetailsService, PasswordEncoder passwordEncoder) {
+        super(passwordEncoder);
+        setUserDetailsService(userDetailsService);
+        // 저장된 해시의 cost가 설정보다 낮으면 로그인 성공 시 새 cost로 재해싱
+        setUserDetailsPasswordService(userDetailsService);
+        // 비밀번호 검증 전에 조회한 사용자로 상태 확인 (탈퇴, 미인증 회원은 비밀번호 해싱 없이 거부)
+        setPreAuthenticationChecks(this::checkStatus);
+    }
+
+    private void checkStatus(UserDetails userDetails) {
+        Status userStatus = ((UserDetailsImpl) userDetails).getUser().getStatus();
+
+        //유저 상태 확인 (탈퇴한 회원)
+        if (Status.DEACTIVATE.equals(userStatus)) {
+            log.error("탈퇴한 회원");
+            throw new DisabledException(ExceptionMessage.DEATIVATE_USER.getExceptionMessage());
+        }
+
+        //유저 상태 확인 (미 인증 회원)
+        if (Status.UNAUTHORIZED.equals(userStatus)) {
+            log.error("미 인증한 회원");
+            throw new DisabledException(ExceptionMessage.UNAUTHORIZED_USER.getExceptionMessage());
+        }
+    }
+}
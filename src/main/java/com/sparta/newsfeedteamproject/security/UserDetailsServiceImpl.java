@@ -1,16 +1,37 @@
 package com.sparta.newsfeedteamproject.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.newsfeedteamproject.entity.Status;
 import com.sparta.newsfeedteamproject.entity.User;
 import com.sparta.newsfeedteamproject.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
 
 @Service
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService, MeterBinder {
+
+    private static final long CACHE_MAXIMUM_SIZE = 10_000L;
+    private static final Duration CACHE_TTL = Duration.ofMinutes(5);
 
     private final UserRepository userRepository;
+    // 요청마다 users 테이블을 조회하지 않도록 username 기준으로 캐싱 (상태, 비밀번호 변경 시 제거)
+    // 엔티티 대신 변경할 수 없는 값만 저장하여 요청 사이에 같은 User 객체를 공유하지 않음
+    private final Cache<String, CachedUser> userDetailsCache = Caffeine.newBuilder()
+            .maximumSize(CACHE_MAXIMUM_SIZE)
+            .expireAfterWrite(CACHE_TTL)
+            .recordStats()
+            .build();
 
     public UserDetailsServiceImpl(UserRepository userRepository) {
         this.userRepository = userRepository;
@@ -18,10 +39,69 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username).orElseThrow(
-                () -> new UsernameNotFoundException("사용자를 찾을 수 없습니다.")
-        );
+        CachedUser cached = userDetailsCache.getIfPresent(username);
+
+        if (cached == null) {
+            User user = userRepository.findByUsername(username).orElseThrow(
+                    () -> new UsernameNotFoundException("사용자를 찾을 수 없습니다.")
+            );
+
+            cached = CachedUser.of(user);
+            userDetailsCache.put(username, cached);
+        }
+
+        // 요청마다 새 User로 인증 정보를 만들어 호출한 쪽에서 수정해도 캐시에 영향 없음
+        return new UserDetailsImpl(cached.toUser());
+    }
+
+    // 로그인 시 재해싱된 비밀번호 저장
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = ((UserDetailsImpl) userDetails).getUser();
+        userRepository.updatePassword(user.getId(), newPassword);
+        evictUser(user.getUsername());
+        user.setPassword(newPassword);
+
+        return userDetails;
+    }
+
+    // 사용자 정보가 변경되었을 때 캐시에서 제거
+    public void evictUser(String username) {
+        userDetailsCache.invalidate(username);
+
+        // 커밋 전에 다른 요청이 변경 전 값을 다시 캐싱할 수 있으므로 트랜잭션 종료 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    userDetailsCache.invalidate(username);
+                }
+            });
+        }
+    }
+
+    // 캐시 hit/miss 지표를 /actuator/metrics 의 cache.gets 등으로 노출
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, userDetailsCache, "userDetails");
+    }
+
+    // 인증에 필요한 값만 저장 (권한은 상태로 결정)
+    private record CachedUser(Long id, String username, String password, Status status) {
+
+        static CachedUser of(User user) {
+            return new CachedUser(user.getId(), user.getUsername(), user.getPassword(), user.getStatus());
+        }
+
+        // 토큰으로 인증할 때(JwtProvider.getUserFromClaims)와 같이 id, username, 상태만 가진 User 생성
+        User toUser() {
+            User user = new User();
+            user.setId(id);
+            user.setUsername(username);
+            user.setPassword(password);
+            user.setStatus(status);
 
-        return new UserDetailsImpl(user);
+            return user;
+        }
     }
 }
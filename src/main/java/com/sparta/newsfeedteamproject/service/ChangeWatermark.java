@@ -0,0 +1,104 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시물/게시물 목록/프로필의 마지막 변경 시점 (ETag 생성용, 서버 내)
+// 변경 이벤트마다 서버 내에서 증가하는 순번을 부여하고, 값이 없으면 새 순번을 부여하므로 이전에 발급한 ETag와 겹치지 않음
+// 캐시(FeedCache, ResponseCache)를 삭제한 뒤 갱신해야 새 ETag가 이전 응답 본문과 함께 저장되지 않음
+@Slf4j(topic = "ChangeWatermark")
+@Component
+public class ChangeWatermark {
+
+    // 서버(재시작 포함)마다 다른 값 - 다른 서버에서 발급한 ETag와 일치하지 않도록 ETag에 포함
+    private final String nodeId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong listWatermark = new AtomicLong(sequence.incrementAndGet());
+    private final Cache<Long, Long> feedWatermarks;
+    private final Cache<Long, Long> profileWatermarks;
+
+    public ChangeWatermark(@Value("${etag.watermark.max-size:100000}") long maxSize) {
+        this.feedWatermarks = Caffeine.newBuilder().maximumSize(maxSize).build();
+        this.profileWatermarks = Caffeine.newBuilder().maximumSize(maxSize).build();
+    }
+
+    // 게시물 단건과 댓글 (게시물 수정, 좋아요 수 반영, 댓글 작성/수정/삭제 시 변경)
+    public long feed(Long feedId) {
+        return feedWatermarks.get(feedId, id -> sequence.incrementAndGet());
+    }
+
+    // 게시물 목록 (게시물 작성/수정/삭제, 좋아요 수 반영 시 변경)
+    public long list() {
+        return listWatermark.get();
+    }
+
+    public long profile(Long userId) {
+        return profileWatermarks.get(userId, id -> sequence.incrementAndGet());
+    }
+
+    // 이 서버에서 발급하는 strong ETag
+    public String eTag(Object... parts) {
+
+        StringBuilder eTag = new StringBuilder("\"").append(nodeId);
+
+        for (Object part : parts) {
+            eTag.append('-').append(part);
+        }
+
+        return eTag.append('"').toString();
+    }
+
+    // FeedCache, ResponseCache 삭제 이후 실행
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedChanged(FeedChangedEvent event) {
+        advance(event);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(ProfileChangedEvent event) {
+        profileWatermarks.put(event.userId(), sequence.incrementAndGet());
+    }
+
+    // 다른 서버의 게시물 변경 (FeedCache.CHANNEL, 캐시 삭제 이후 호출)
+    public void onFeedMessage(Message message, byte[] pattern) {
+
+        FeedChangedEvent event = FeedChangedEvent.fromMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+
+        if (event != null) {
+            advance(event);
+        }
+    }
+
+    // 다른 서버의 프로필 변경 (ResponseCache.PROFILE_CHANNEL, 응답 캐시 삭제 이후 호출)
+    public void onProfileMessage(Message message, byte[] pattern) {
+
+        try {
+            onProfileChanged(new ProfileChangedEvent(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8))));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 프로필 변경 메시지입니다. message : {}", message);
+        }
+    }
+
+    private void advance(FeedChangedEvent event) {
+
+        feedWatermarks.put(event.feedId(), sequence.incrementAndGet());
+
+        // 목록에는 댓글이 포함되지 않으므로 댓글 변경(DETAIL)은 제외
+        if (event.scope() != FeedChangedEvent.Scope.DETAIL) {
+            listWatermark.set(sequence.incrementAndGet());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.sparta.newsfeedteamproject.service;
 
+import com.sparta.newsfeedteamproject.dto.CursorResDto;
 import com.sparta.newsfeedteamproject.dto.MessageResDto;
 import com.sparta.newsfeedteamproject.dto.comment.CommentDelResDto;
 import com.sparta.newsfeedteamproject.dto.comment.CommentReqDto;
@@ -10,29 +11,45 @@ import com.sparta.newsfeedteamproject.entity.Feed;
 import com.sparta.newsfeedteamproject.entity.User;
 import com.sparta.newsfeedteamproject.exception.ExceptionMessage;
 import com.sparta.newsfeedteamproject.repository.CommentRepository;
-import com.sparta.newsfeedteamproject.repository.LikeRepository;
+import com.sparta.newsfeedteamproject.util.Cursor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 public class CommentService {
 
+    public static final int MAX_COMMENT_PAGE_SIZE = 100;
+    private static final String SORT_BY_CREATED_AT = "createdAt";
+
     private final CommentRepository commentRepository;
-    private final LikeRepository likeRepository;
     private final FeedService feedService;
+    private final LikeCounter likeCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeWatermark changeWatermark;
 
-    public CommentService(CommentRepository commentRepository, LikeRepository likeRepository, FeedService feedService) {
+    public CommentService(CommentRepository commentRepository, FeedService feedService, LikeCounter likeCounter,
+                          ApplicationEventPublisher eventPublisher, ChangeWatermark changeWatermark) {
         this.commentRepository = commentRepository;
-        this.likeRepository = likeRepository;
         this.feedService = feedService;
+        this.likeCounter = likeCounter;
+        this.eventPublisher = eventPublisher;
+        this.changeWatermark = changeWatermark;
     }
 
+    @Transactional
     public MessageResDto<CommentResDto> createComment(Long feedId, CommentReqDto reqDto, User user) {
 
         Feed feed = feedService.findFeed(feedId);
         Comment comment = new Comment(reqDto, feed, user, 0L);
         Comment saveComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new FeedChangedEvent(feedId, FeedChangedEvent.Scope.DETAIL));
+        eventPublisher.publishEvent(new FeedActivityEvent(feedId, FeedActivityEvent.Activity.COMMENTED));
         CommentResDto resDto = new CommentResDto(saveComment);
 
         return new MessageResDto<>(HttpStatus.OK.value(), "댓글 작성이 완료되었습니다!", resDto);
@@ -42,11 +59,49 @@ public class CommentService {
 
         feedService.findFeed(feedId);
         Comment comment = findComment(commentId);
-        CommentResDto resDto = new CommentResDto(comment);
+        CommentResDto resDto = applyPendingLikes(new CommentResDto(comment));
 
         return new MessageResDto<>(HttpStatus.OK.value(), "댓글 조회가 완료되었습니다!", resDto);
     }
 
+    // 댓글 단건 ETag - 댓글을 조회하지 않고 버전만 조회, 없으면 null (조회 시 예외 처리)
+    // 좋아요 수는 버전을 바꾸지 않으므로 좋아요 수 반영 시점(게시물 변경 시점)과 미반영 댓글 좋아요 변경 여부를 함께 포함
+    public String getCommentETag(Long feedId, Long commentId) {
+        return commentRepository.findVersionById(feedId, commentId)
+                .map(version -> changeWatermark.eTag("c" + commentId, version,
+                        changeWatermark.feed(feedId), likeCounter.getCommentLikesVersion(feedId)))
+                .orElse(null);
+    }
+
+    // 댓글 목록 ETag - 댓글 작성/수정/삭제 시 변경되는 게시물의 마지막 변경 시점과 미반영 댓글 좋아요 변경 여부로 생성
+    public String getCommentsETag(Long feedId) {
+        return changeWatermark.eTag("fc" + feedId, changeWatermark.feed(feedId), likeCounter.getCommentLikesVersion(feedId));
+    }
+
+    // 게시물의 댓글을 (created_at, id) 기준 Keyset Pagination으로 조회
+    public MessageResDto<CursorResDto<CommentResDto>> getComments(Long feedId, String cursor, int size) {
+
+        feedService.findFeed(feedId);
+
+        int limit = Math.max(1, Math.min(size, MAX_COMMENT_PAGE_SIZE));
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+        Cursor decoded = Cursor.decode(cursor, SORT_BY_CREATED_AT);
+
+        List<CommentResDto> comments = decoded == null
+                ? commentRepository.findCommentsOrderByCreatedAt(feedId, pageRequest)
+                : commentRepository.findCommentsAfterCursor(feedId, decoded.getCreatedAtValue(), decoded.getId(), pageRequest);
+
+        CursorResDto<CommentResDto> resDto = CursorResDto.of(comments, limit, CommentService::toCursor);
+        resDto.getItems().forEach(this::applyPendingLikes);
+
+        return new MessageResDto<>(HttpStatus.OK.value(), "댓글 조회가 완료되었습니다!", resDto);
+    }
+
+    public static Cursor toCursor(CommentResDto comment) {
+
+        return Cursor.of(SORT_BY_CREATED_AT, comment.getCreatedAt(), comment.getId());
+    }
+
     @Transactional
     public MessageResDto<CommentResDto> updateComment(Long feedId, Long commentId, CommentReqDto reqDto, User user) {
 
@@ -60,11 +115,13 @@ public class CommentService {
         }
 
         comment.update(reqDto.getContents());
-        CommentResDto resDto = new CommentResDto(comment);
+        eventPublisher.publishEvent(new FeedChangedEvent(comment.getFeed().getId(), FeedChangedEvent.Scope.DETAIL));
+        CommentResDto resDto = applyPendingLikes(new CommentResDto(comment));
 
         return new MessageResDto<>(HttpStatus.OK.value(), "댓글 수정이 완료되었습니다!", resDto);
     }
 
+    @Transactional
     public MessageResDto<CommentDelResDto> deleteComment(Long feedId, Long commentId, User user) {
 
         feedService.findFeed(feedId);
@@ -76,36 +133,22 @@ public class CommentService {
             throw new IllegalArgumentException(ExceptionMessage.DIFFERENT_WRITER.getExceptionMessage());
         }
 
-        deleteLikes(commentId);
-        commentRepository.delete(comment);
+        // 삭제 요청 시각만 기록, 좋아요를 포함한 실제 삭제는 FeedPurger가 처리
+        comment.delete(LocalDateTime.now());
+        eventPublisher.publishEvent(new FeedChangedEvent(comment.getFeed().getId(), FeedChangedEvent.Scope.DETAIL));
+        eventPublisher.publishEvent(new FeedActivityEvent(comment.getFeed().getId(), FeedActivityEvent.Activity.UNCOMMENTED));
 
         CommentDelResDto resDto = new CommentDelResDto(commentId);
 
         return new MessageResDto<>(HttpStatus.OK.value(), "댓글 삭제가 완료되었습니다!", resDto);
     }
 
-    // 댓글 삭제 시 해당 댓글의 좋아요를 모두 삭제하는 메서드
-    private void deleteLikes(Long contentsId) {
-
-        likeRepository.findAllByContentsIdAndContents(contentsId, Contents.COMMENT)
-                .ifPresent(likes -> likes.stream()
-                        .forEach(like -> likeRepository.delete(like)));
-    }
-
-    // 댓글 좋아요가 생성될 때, 댓글의 likes 를 +1하는 메서드
-    @Transactional
-    public void increaseCommentLikes(Long commentId) {
+    // 아직 DB에 반영되지 않은 좋아요 수를 더해 응답
+    public CommentResDto applyPendingLikes(CommentResDto commentResDto) {
 
-        Comment comment = findComment(commentId);
-        comment.increaseLikes();
-    }
+        commentResDto.addLikes(likeCounter.getPendingLikes(Contents.COMMENT, commentResDto.getId()));
 
-    // 댓글 좋아요가 삭제될 때, 댓글의 likes 를 -1하는 메서드
-    @Transactional
-    public void decreaseCommentLikes(Long commentId) {
-
-        Comment comment = findComment(commentId);
-        comment.decreaseLikes();
+        return commentResDto;
     }
 
     public Comment findComment(Long id) {
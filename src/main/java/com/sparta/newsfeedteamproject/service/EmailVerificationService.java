@@ -0,0 +1,124 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.exception.TooManyRequestsException;
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.SecureRandom;
+import java.util.List;
+
+// 회원가입 인증번호 발급(Redis, 유효 시간 경과 시 자동 삭제) 및 확인
+@Slf4j(topic = "EmailVerificationService")
+@Service
+public class EmailVerificationService {
+
+    private static final String KEY_PREFIX = "signup:code:";
+    private static final String ATTEMPT_KEY_PREFIX = "signup:attempt:";
+    private static final String RESEND_EMAIL_KEY_PREFIX = "signup:resend:email:";
+    private static final String RESEND_IP_KEY_PREFIX = "signup:resend:ip:";
+
+    private final RedisUtil redisUtil;
+    private final VerificationMailSender verificationMailSender;
+    private final long codeTtlSeconds;
+    // 인증번호 하나당 확인 가능한 횟수 (초과 시 인증번호 삭제)
+    private final int codeMaxAttempts;
+    // 같은 이메일로 다시 발송하기까지 기다려야 하는 시간
+    private final long resendCooldownSeconds;
+    // 클라이언트 IP별 resendIpWindowSeconds 동안 허용하는 재발송 요청 수
+    private final int resendIpMaxRequests;
+    private final long resendIpWindowSeconds;
+    private final SecureRandom random = new SecureRandom();
+
+    public EmailVerificationService(RedisUtil redisUtil,
+                                    VerificationMailSender verificationMailSender,
+                                    @Value("${mail.verification.code-ttl:180}") long codeTtlSeconds,
+                                    @Value("${mail.verification.code-max-attempts:5}") int codeMaxAttempts,
+                                    @Value("${mail.verification.resend-cooldown:60}") long resendCooldownSeconds,
+                                    @Value("${mail.verification.resend-ip-max-requests:10}") int resendIpMaxRequests,
+                                    @Value("${mail.verification.resend-ip-window:3600}") long resendIpWindowSeconds) {
+        this.redisUtil = redisUtil;
+        this.verificationMailSender = verificationMailSender;
+        this.codeTtlSeconds = codeTtlSeconds;
+        this.codeMaxAttempts = codeMaxAttempts;
+        this.resendCooldownSeconds = resendCooldownSeconds;
+        this.resendIpMaxRequests = resendIpMaxRequests;
+        this.resendIpWindowSeconds = resendIpWindowSeconds;
+    }
+
+    // 인증번호 저장 후 발송 대기열에 추가 (대기열이 가득 찬 경우 false)
+    // 발송 이후 resendCooldownSeconds 동안 같은 이메일로 재발송할 수 없음
+    public boolean sendCode(String email) {
+        String code = String.format("%06d", random.nextInt(1_000_000));
+        // 새 인증번호는 시도 횟수를 처음부터 계산
+        redisUtil.deleteData(ATTEMPT_KEY_PREFIX + email);
+        redisUtil.setDataExpire(KEY_PREFIX + email, code, codeTtlSeconds);
+        redisUtil.setDataExpire(RESEND_EMAIL_KEY_PREFIX + email, "1", resendCooldownSeconds);
+
+        boolean queued = verificationMailSender.enqueue(email, code);
+        if (!queued) {
+            log.warn("인증 메일 대기열이 가득 차 발송하지 못했습니다. email : {}", email);
+            // 발송하지 못했으므로 바로 재발송할 수 있도록 함
+            redisUtil.deleteData(RESEND_EMAIL_KEY_PREFIX + email);
+        }
+        return queued;
+    }
+
+    // 재발송 요청 제한 - 한 클라이언트가 다른 사용자의 메일함과 발송 대기열을 채우지 못하도록 함
+    // 사용자 조회 전에 확인하여 제한된 요청은 DB를 조회하지 않음
+    public void checkResendAllowed(String email, String clientIp) {
+        if (redisUtil.increaseData(RESEND_IP_KEY_PREFIX + clientIp, resendIpWindowSeconds) > resendIpMaxRequests) {
+            throw new TooManyRequestsException(retryAfter(RESEND_IP_KEY_PREFIX + clientIp));
+        }
+
+        // 동시 요청 중 하나만 통과하도록 확인과 동시에 재발송 간격 시작
+        // 가입하지 않은 이메일도 같은 간격을 적용하여 응답으로 가입 여부를 알 수 없도록 함
+        if (!redisUtil.setDataIfAbsent(RESEND_EMAIL_KEY_PREFIX + email, "1", resendCooldownSeconds)) {
+            throw new TooManyRequestsException(retryAfter(RESEND_EMAIL_KEY_PREFIX + email));
+        }
+    }
+
+    // 회원가입 커밋 이후 발송 - 가입은 이미 완료되었으므로 실패해도 오류를 응답하지 않음 (재발송으로 다시 받을 수 있음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSignupCompleted(SignupCompletedEvent event) {
+        try {
+            sendCode(event.email());
+        } catch (RuntimeException e) {
+            log.error("인증번호 발송 실패 - email : {}, {}", event.email(), e.getMessage());
+        }
+    }
+
+    // 일치하면 인증번호를 삭제하여 재사용할 수 없도록 함
+    // 동시 요청으로도 인증번호 하나당 codeMaxAttempts번까지만 비교하도록 비교 전에 시도 횟수를 먼저 증가
+    // 모두 틀리면 인증번호를 삭제하고 TooManyRequestsException (재발송 받은 인증번호로만 인증 가능)
+    public boolean verifyCode(String email, String code) {
+        String savedCode = redisUtil.getData(KEY_PREFIX + email);
+
+        if (savedCode == null) {
+            return false;
+        }
+
+        long attempts = redisUtil.increaseData(ATTEMPT_KEY_PREFIX + email, codeTtlSeconds);
+
+        if (attempts <= codeMaxAttempts && savedCode.equals(code)) {
+            redisUtil.deleteData(List.of(KEY_PREFIX + email, ATTEMPT_KEY_PREFIX + email));
+            return true;
+        }
+
+        if (attempts >= codeMaxAttempts) {
+            log.warn("인증번호 확인 횟수를 초과하여 인증번호를 삭제합니다. email : {}", email);
+            redisUtil.deleteData(List.of(KEY_PREFIX + email, ATTEMPT_KEY_PREFIX + email));
+            // 새 인증번호를 받을 수 있을 때까지 (재발송 간격이 남아있지 않으면 바로 재발송 가능)
+            throw new TooManyRequestsException(retryAfter(RESEND_EMAIL_KEY_PREFIX + email));
+        }
+
+        return false;
+    }
+
+    // 제한 키가 만료될 때까지 남은 시간 (최소 1초)
+    private long retryAfter(String key) {
+        return Math.max(redisUtil.getExpire(key), 1L);
+    }
+}
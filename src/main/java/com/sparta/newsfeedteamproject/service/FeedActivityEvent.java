@@ -0,0 +1,16 @@
+package com.sparta.newsfeedteamproject.service;
+
+// 게시물 인기 점수에 반영되는 활동 (커밋 이후 HotFeedRanking에서 반영)
+public record FeedActivityEvent(Long feedId, Activity activity) {
+
+    public enum Activity {
+        CREATED,
+        LIKED,
+        // 좋아요 취소 - 취소 시점의 좋아요 1개만큼 차감
+        UNLIKED,
+        COMMENTED,
+        UNCOMMENTED,
+        // 순위에서 제외
+        DELETED
+    }
+}
@@ -0,0 +1,310 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.newsfeedteamproject.dto.feed.FeedResDto;
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import com.sparta.newsfeedteamproject.util.SingleFlight;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 게시물 목록/단건 조회 결과를 L1(서버 내 Caffeine) → L2(Redis) 순서로 조회하는 캐시
+// 변경은 커밋 이후 FeedChangedEvent로 해당 게시물과 관련된 항목만 삭제하고, 다른 서버의 L1은 pub/sub으로 삭제
+// 서버마다 다른 미반영 좋아요 수는 캐시에 넣지 않고 조회 시점에 더하며, DB에 반영될 때 LikeCounter가 변경 이벤트 발행
+@Slf4j(topic = "FeedCache")
+@Component
+public class FeedCache implements MessageListener {
+
+    public static final String CHANNEL = "feed:cache:invalidate";
+    private static final String PAGE_PREFIX = "feed:cache:page:";
+    // 캐시된 모든 목록 키 (목록 구성이 바뀌면 모두 삭제)
+    private static final String PAGE_KEYS = "feed:cache:pages";
+    // 게시물이 포함된 목록 키
+    private static final String PAGE_INDEX_PREFIX = "feed:cache:pages:";
+    // 게시물별 Hash (field : 댓글 수, 전체 댓글은 all) - 게시물 변경 시 키 하나만 삭제
+    private static final String DETAIL_PREFIX = "feed:cache:detail:";
+    private static final String ALL_COMMENTS = "all";
+    private static final int REFRESH_QUEUE_CAPACITY = 1000;
+    private static final TypeReference<List<FeedResDto>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long ttlSeconds;
+    private final long refreshNanos;
+    private final Cache<PageKey, Cached<List<FeedResDto>>> pages;
+    private final Cache<DetailKey, Cached<FeedResDto>> details;
+    // 같은 키의 L2/DB 조회는 서버당 한 번만 실행
+    private final SingleFlight<PageKey, List<FeedResDto>> pageFlight = new SingleFlight<>();
+    private final SingleFlight<DetailKey, FeedResDto> detailFlight = new SingleFlight<>();
+    private final ThreadPoolExecutor refreshExecutor;
+    // 삭제할 때마다 증가, 조회 중에 삭제가 발생했으면 이전 값일 수 있으므로 저장하지 않음
+    private final AtomicLong generation = new AtomicLong();
+
+    public FeedCache(RedisUtil redisUtil,
+                     ObjectMapper objectMapper,
+                     @Value("${feed.cache.enabled:true}") boolean enabled,
+                     @Value("${feed.cache.ttl:60}") long ttlSeconds,
+                     @Value("${feed.cache.l1.ttl:10}") long localTtlSeconds,
+                     @Value("${feed.cache.l1.refresh:5}") long refreshSeconds,
+                     @Value("${feed.cache.l1.page-size:1000}") long maxPages,
+                     @Value("${feed.cache.l1.detail-size:10000}") long maxDetails,
+                     @Value("${feed.cache.refresh.pool-size:2}") int refreshPoolSize) {
+        this.redisUtil = redisUtil;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttlSeconds = ttlSeconds;
+        this.refreshNanos = TimeUnit.SECONDS.toNanos(refreshSeconds);
+        // pub/sub 메시지는 유실될 수 있으므로 L1은 L2보다 짧게 유지
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxPages)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maxDetails)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        // 대기열이 가득 차면 갱신을 건너뛰고 만료될 때까지 이전 값 유지
+        this.refreshExecutor = new ThreadPoolExecutor(refreshPoolSize, refreshPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "feed-cache-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 반환된 목록과 게시물은 복사본이므로 호출한 쪽에서 수정해도 캐시에 영향 없음
+    public List<FeedResDto> getPage(PageKey key, Supplier<List<FeedResDto>> loader) {
+
+        if (!isCacheable()) {
+            return loader.get();
+        }
+
+        List<FeedResDto> feeds = get(pages, pageFlight, key, () -> load(pages, key, this::readPage, loader, this::writePage));
+
+        return feeds.stream().map(FeedResDto::new).toList();
+    }
+
+    public FeedResDto getFeed(DetailKey key, Supplier<FeedResDto> loader) {
+
+        if (!isCacheable()) {
+            return loader.get();
+        }
+
+        return new FeedResDto(get(details, detailFlight, key, () -> load(details, key, this::readFeed, loader, this::writeFeed)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    // 갱신 시점이 지난 값은 그대로 반환하고 백그라운드에서 한 번만 다시 조회 (stale-while-revalidate)
+    // 변경으로 삭제된 값은 이전 값을 반환하지 않고 동시에 들어온 요청이 하나의 조회 결과를 함께 사용
+    private <K, V> V get(Cache<K, Cached<V>> cache, SingleFlight<K, V> flight, K key, Supplier<V> load) {
+
+        Cached<V> cached = cache.getIfPresent(key);
+
+        if (cached == null) {
+            return flight.load(key, load);
+        }
+
+        if (System.nanoTime() - cached.loadedAt() >= refreshNanos) {
+            flight.loadAsync(key, load, refreshExecutor).exceptionally(e -> {
+                log.warn("게시물 캐시를 갱신하지 못했습니다. key : {}", key, e);
+                return null;
+            });
+        }
+
+        return cached.value();
+    }
+
+    // L2 → DB 순서로 조회 후 저장
+    private <K, V> V load(Cache<K, Cached<V>> cache, K key, Function<K, V> readRedis, Supplier<V> loader, BiConsumer<K, V> writeRedis) {
+
+        long startGeneration = generation.get();
+        V value = readRedis.apply(key);
+
+        if (value == null) {
+            value = loader.get();
+
+            if (generation.get() == startGeneration) {
+                writeRedis.accept(key, value);
+            }
+        }
+
+        if (generation.get() == startGeneration) {
+            cache.put(key, new Cached<>(value, System.nanoTime()));
+        }
+
+        return value;
+    }
+
+    // 트랜잭션이 없으면(좋아요 수 반영) 즉시 실행, 응답 캐시(ResponseCache)보다 먼저 삭제
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFeedChanged(FeedChangedEvent event) {
+
+        if (enabled) {
+            evictLocal(event.feedId(), event.scope());
+        }
+
+        try {
+            if (enabled) {
+                evictRedis(event.feedId(), event.scope());
+            }
+            // 다른 서버의 응답 캐시(ResponseCache)도 이 메시지로 삭제하므로 캐시 사용 여부와 관계없이 전파
+            redisUtil.publish(CHANNEL, event.toMessage());
+        } catch (RuntimeException e) {
+            log.warn("게시물 캐시를 삭제하지 못했습니다. feedId : {}", event.feedId(), e);
+        }
+    }
+
+    // 다른 서버에서 발생한 변경, L2는 변경이 발생한 서버에서 이미 삭제
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        FeedChangedEvent event = FeedChangedEvent.fromMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+
+        if (event == null) {
+            log.warn("잘못된 게시물 캐시 삭제 메시지입니다. message : {}", message);
+            return;
+        }
+
+        evictLocal(event.feedId(), event.scope());
+    }
+
+    // 트랜잭션 안에서는 커밋되지 않은 값을 읽거나 저장할 수 있으므로 캐시를 사용하지 않음
+    private boolean isCacheable() {
+        return enabled && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private void evictLocal(Long feedId, FeedChangedEvent.Scope scope) {
+
+        generation.incrementAndGet();
+        details.asMap().keySet().removeIf(key -> key.feedId().equals(feedId));
+
+        switch (scope) {
+            case LIST -> pages.invalidateAll();
+            // L1 목록 수는 maximumSize로 제한되므로 전체를 확인
+            case FEED -> pages.asMap().values().removeIf(cached -> contains(cached.value(), feedId));
+            default -> {
+            }
+        }
+    }
+
+    private void evictRedis(Long feedId, FeedChangedEvent.Scope scope) {
+
+        List<String> keys = new ArrayList<>();
+        keys.add(DETAIL_PREFIX + feedId);
+
+        switch (scope) {
+            case LIST -> {
+                keys.addAll(redisUtil.getSetMembers(PAGE_KEYS));
+                keys.add(PAGE_KEYS);
+            }
+            case FEED -> {
+                keys.addAll(redisUtil.getSetMembers(PAGE_INDEX_PREFIX + feedId));
+                keys.add(PAGE_INDEX_PREFIX + feedId);
+            }
+            default -> {
+            }
+        }
+
+        redisUtil.deleteData(keys);
+    }
+
+    private List<FeedResDto> readPage(PageKey key) {
+
+        try {
+            String json = redisUtil.getData(key.redisKey());
+            return json == null ? null : objectMapper.readValue(json, PAGE_TYPE);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("게시물 목록 캐시를 조회하지 못했습니다. key : {}", key.redisKey(), e);
+            return null;
+        }
+    }
+
+    private void writePage(PageKey key, List<FeedResDto> feeds) {
+
+        try {
+            String redisKey = key.redisKey();
+            redisUtil.setDataExpire(redisKey, objectMapper.writeValueAsString(feeds), ttlSeconds);
+
+            List<String> indexKeys = new ArrayList<>(feeds.size() + 1);
+            indexKeys.add(PAGE_KEYS);
+            feeds.forEach(feed -> indexKeys.add(PAGE_INDEX_PREFIX + feed.getId()));
+            redisUtil.addToSets(indexKeys, redisKey, ttlSeconds);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("게시물 목록 캐시를 저장하지 못했습니다. key : {}", key.redisKey(), e);
+        }
+    }
+
+    private FeedResDto readFeed(DetailKey key) {
+
+        try {
+            String json = redisUtil.getHashValue(DETAIL_PREFIX + key.feedId(), key.field());
+            return json == null ? null : objectMapper.readValue(json, FeedResDto.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("게시물 캐시를 조회하지 못했습니다. feedId : {}", key.feedId(), e);
+            return null;
+        }
+    }
+
+    private void writeFeed(DetailKey key, FeedResDto feed) {
+
+        try {
+            redisUtil.putHashValue(DETAIL_PREFIX + key.feedId(), key.field(), objectMapper.writeValueAsString(feed), ttlSeconds);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("게시물 캐시를 저장하지 못했습니다. feedId : {}", key.feedId(), e);
+        }
+    }
+
+    private boolean contains(List<FeedResDto> feeds, Long feedId) {
+        return feeds.stream().anyMatch(feed -> feed.getId().equals(feedId));
+    }
+
+    // loadedAt : System.nanoTime() 기준 조회 시각
+    private record Cached<V>(V value, long loadedAt) {
+    }
+
+    public record PageKey(int page, String sortBy, LocalDate startDate, LocalDate endDate) {
+
+        String redisKey() {
+            return PAGE_PREFIX + sortBy + ":" + page + ":" + startDate + ":" + endDate;
+        }
+    }
+
+    // commentSize가 null이면 전체 댓글
+    public record DetailKey(Long feedId, Integer commentSize) {
+
+        String field() {
+            return commentSize == null ? ALL_COMMENTS : String.valueOf(commentSize);
+        }
+    }
+}
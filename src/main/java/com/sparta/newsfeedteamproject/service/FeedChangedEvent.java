@@ -0,0 +1,35 @@
+package com.sparta.newsfeedteamproject.service;
+
+// 게시물 조회 결과가 바뀌는 변경 (커밋 이후 FeedCache, ResponseCache에서 해당 항목 삭제)
+public record FeedChangedEvent(Long feedId, Scope scope) {
+
+    public enum Scope {
+        // 단건 조회 결과만 바뀜 (댓글 작성/수정/삭제)
+        DETAIL,
+        // 단건 조회와 해당 게시물이 포함된 목록이 바뀜 (게시물 수정, 좋아요 수 반영)
+        FEED,
+        // 목록의 구성 자체가 바뀜 (게시물 작성/삭제)
+        LIST
+    }
+
+    // 다른 서버에 전파하는 메시지 ("scope:feedId")
+    public String toMessage() {
+        return scope + ":" + feedId;
+    }
+
+    // 올바르지 않은 메시지면 null
+    public static FeedChangedEvent fromMessage(String message) {
+
+        String[] body = message.split(":");
+
+        if (body.length != 2) {
+            return null;
+        }
+
+        try {
+            return new FeedChangedEvent(Long.parseLong(body[1]), Scope.valueOf(body[0]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.entity.Contents;
+import com.sparta.newsfeedteamproject.repository.CommentRepository;
+import com.sparta.newsfeedteamproject.repository.FeedRepository;
+import com.sparta.newsfeedteamproject.repository.LikeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 삭제 요청된 게시물/댓글과 좋아요를 chunk 단위로 나누어 실제로 삭제
+@Slf4j(topic = "FeedPurger")
+@Component
+public class FeedPurger {
+
+    private final FeedRepository feedRepository;
+    private final CommentRepository commentRepository;
+    private final LikeRepository likeRepository;
+    // chunk 사이 대기(Thread.sleep)가 공용 @Scheduled 스레드를 붙잡지 않도록 전용 스레드에서 실행
+    private final ScheduledExecutorService purgeExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "feed-purger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 실행 간격(ms) - 이전 실행이 끝난 뒤부터 계산
+    @Value("${feed.purge.time:60000}")
+    private long purgeDelayMillis;
+    // 한 번의 DELETE 문으로 삭제할 최대 행 수
+    @Value("${feed.purge.chunk-size:500}")
+    private int chunkSize;
+    // 한 번의 실행에서 처리할 최대 chunk 수
+    @Value("${feed.purge.max-chunks:200}")
+    private int maxChunks;
+    // chunk 사이 대기 시간(ms)
+    @Value("${feed.purge.pause:50}")
+    private long pauseMillis;
+    // 사용량이 많은 시간대 [start, end) 에는 대기 시간을 늘리고 처리량을 줄임
+    @Value("${feed.purge.peak.start-hour:18}")
+    private int peakStartHour;
+    @Value("${feed.purge.peak.end-hour:24}")
+    private int peakEndHour;
+    @Value("${feed.purge.peak.pause:1000}")
+    private long peakPauseMillis;
+    @Value("${feed.purge.peak.max-chunks:10}")
+    private int peakMaxChunks;
+
+    public FeedPurger(FeedRepository feedRepository, CommentRepository commentRepository, LikeRepository likeRepository) {
+        this.feedRepository = feedRepository;
+        this.commentRepository = commentRepository;
+        this.likeRepository = likeRepository;
+    }
+
+    @PostConstruct
+    public void start() {
+        purgeExecutor.scheduleWithFixedDelay(this::purge, purgeDelayMillis, purgeDelayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 대기 중인 chunk 사이 sleep을 interrupt 하여 바로 종료
+    @PreDestroy
+    public void shutdown() {
+        purgeExecutor.shutdownNow();
+    }
+
+    public void purge() {
+
+        boolean peak = isPeakHour(LocalTime.now().getHour());
+        Budget budget = new Budget(peak ? peakMaxChunks : maxChunks, peak ? peakPauseMillis : pauseMillis);
+
+        try {
+            purgeDeletedFeeds(budget);
+            purgeDeletedComments(budget);
+        } catch (RuntimeException e) {
+            log.error("삭제 요청된 게시물 정리 실패 : {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 게시물 1개의 좋아요, 댓글, 댓글 좋아요를 모두 삭제한 뒤 게시물 삭제 (모두 정리되면 true)
+    public boolean purgeFeed(Long feedId) throws InterruptedException {
+        return purgeFeed(feedId, new Budget(Integer.MAX_VALUE, 0L));
+    }
+
+    boolean isPeakHour(int hour) {
+        return hour >= peakStartHour && hour < peakEndHour;
+    }
+
+    private void purgeDeletedFeeds(Budget budget) throws InterruptedException {
+
+        for (Long feedId : feedRepository.findDeletedFeedIds(chunkSize)) {
+            if (!purgeFeed(feedId, budget)) {
+                return;
+            }
+        }
+    }
+
+    private boolean purgeFeed(Long feedId, Budget budget) throws InterruptedException {
+
+        if (!purgeLikes(Contents.FEED, List.of(feedId), budget)) {
+            return false;
+        }
+
+        List<Long> commentIds;
+        while (!(commentIds = commentRepository.findCommentIdsByFeedId(feedId, chunkSize)).isEmpty()) {
+            if (!purgeComments(commentIds, budget)) {
+                return false;
+            }
+        }
+
+        feedRepository.purgeById(feedId);
+
+        return true;
+    }
+
+    private void purgeDeletedComments(Budget budget) throws InterruptedException {
+
+        List<Long> commentIds;
+        while (!(commentIds = commentRepository.findDeletedCommentIds(chunkSize)).isEmpty()) {
+            if (!purgeComments(commentIds, budget)) {
+                return;
+            }
+        }
+    }
+
+    private boolean purgeComments(List<Long> commentIds, Budget budget) throws InterruptedException {
+
+        if (!purgeLikes(Contents.COMMENT, commentIds, budget) || !budget.use()) {
+            return false;
+        }
+
+        commentRepository.purgeAllByIdIn(commentIds);
+
+        return true;
+    }
+
+    // 좋아요가 남아있지 않을 때까지 chunkSize개씩 삭제 (처리량을 모두 사용하면 false)
+    private boolean purgeLikes(Contents contents, List<Long> contentsIds, Budget budget) throws InterruptedException {
+
+        int deleted;
+        do {
+            if (!budget.use()) {
+                return false;
+            }
+            deleted = likeRepository.purgeLikes(contents.name(), contentsIds, chunkSize);
+        } while (deleted == chunkSize);
+
+        return true;
+    }
+
+    // 한 번의 실행에서 사용할 수 있는 chunk 수와 chunk 사이 대기 시간
+    private static class Budget {
+
+        private final long pauseMillis;
+        private int remainingChunks;
+
+        Budget(int maxChunks, long pauseMillis) {
+            this.remainingChunks = maxChunks;
+            this.pauseMillis = pauseMillis;
+        }
+
+        boolean use() throws InterruptedException {
+
+            if (remainingChunks <= 0) {
+                return false;
+            }
+
+            remainingChunks--;
+
+            if (pauseMillis > 0) {
+                Thread.sleep(pauseMillis);
+            }
+
+            return true;
+        }
+    }
+}
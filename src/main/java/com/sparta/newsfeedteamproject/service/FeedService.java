@@ -1,71 +1,220 @@
 package com.sparta.newsfeedteamproject.service;
 
+import com.sparta.newsfeedteamproject.dto.CursorResDto;
 import com.sparta.newsfeedteamproject.dto.MessageResDto;
 import com.sparta.newsfeedteamproject.dto.comment.CommentResDto;
 import com.sparta.newsfeedteamproject.dto.feed.FeedReqDto;
 import com.sparta.newsfeedteamproject.dto.feed.FeedResDto;
-import com.sparta.newsfeedteamproject.entity.Comment;
 import com.sparta.newsfeedteamproject.entity.Contents;
 import com.sparta.newsfeedteamproject.entity.Feed;
 import com.sparta.newsfeedteamproject.entity.User;
 import com.sparta.newsfeedteamproject.exception.ExceptionMessage;
 import com.sparta.newsfeedteamproject.repository.CommentRepository;
 import com.sparta.newsfeedteamproject.repository.FeedRepository;
-import com.sparta.newsfeedteamproject.repository.LikeRepository;
-import org.springframework.data.domain.Page;
+import com.sparta.newsfeedteamproject.util.Cursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j(topic = "FeedService")
 @Service
 public class FeedService {
 
+    private static final int PAGE_SIZE = 10;
+    private static final String SORT_BY_CREATED_AT = "createdAt";
+    private static final String SORT_BY_LIKES = "likes";
+    private static final String SORT_BY_HOT = "hot";
+    // 허용한 정렬 기준만 인덱스(idx_feed_created_at_id, idx_feed_likes_id)와 같은 순서로 정렬
+    private static final Map<String, Sort> PAGE_SORTS = Map.of(
+            SORT_BY_CREATED_AT, Sort.by(Sort.Direction.DESC, "createdAt", "id"),
+            SORT_BY_LIKES, Sort.by(Sort.Direction.DESC, "likes", "id"));
+
     private final FeedRepository feedRepository;
     private final CommentRepository commentRepository;
-    private final LikeRepository likeRepository;
-
-    public FeedService(FeedRepository feedRepository, CommentRepository commentRepository, LikeRepository likeRepository) {
+    private final LikeCounter likeCounter;
+    private final FeedCache feedCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeWatermark changeWatermark;
+    private final HotFeedRanking hotFeedRanking;
+    // 전체 게시물 수는 조회 시마다 COUNT 하지 않고 주기적으로 갱신된 값을 사용 (-1 : 아직 집계되지 않음)
+    private final AtomicLong totalFeedCount = new AtomicLong(-1L);
+
+    public FeedService(FeedRepository feedRepository, CommentRepository commentRepository, LikeCounter likeCounter,
+                       FeedCache feedCache, ApplicationEventPublisher eventPublisher, ChangeWatermark changeWatermark,
+                       HotFeedRanking hotFeedRanking) {
         this.feedRepository = feedRepository;
         this.commentRepository = commentRepository;
-        this.likeRepository = likeRepository;
+        this.likeCounter = likeCounter;
+        this.feedCache = feedCache;
+        this.eventPublisher = eventPublisher;
+        this.changeWatermark = changeWatermark;
+        this.hotFeedRanking = hotFeedRanking;
+    }
+
+    // 게시물 목록 ETag - 목록을 조회하지 않고 마지막 변경 시점과 미반영 좋아요 수 변경 여부로 생성
+    // 인기 순위는 변경 이벤트 없이도 바뀌므로 순위 버전을 함께 포함
+    public String getFeedListETag(String sortBy, Long totalCount) {
+
+        long watermark = changeWatermark.list();
+        long likesVersion = likeCounter.getFeedLikesVersion();
+        String list = SORT_BY_HOT.equals(sortBy) ? "h" + hotFeedRanking.getVersion() : "l";
+
+        return totalCount == null
+                ? changeWatermark.eTag(list, watermark, likesVersion)
+                : changeWatermark.eTag(list, watermark, likesVersion, totalCount);
+    }
+
+    // 게시물 단건 ETag - 게시물을 조회하지 않고 마지막 변경 시점(댓글 포함)과 미반영 좋아요 수, 미반영 댓글 좋아요 변경 여부로 생성
+    public String getFeedETag(Long feedId) {
+        return changeWatermark.eTag("f" + feedId, changeWatermark.feed(feedId),
+                likeCounter.getPendingLikes(Contents.FEED, feedId), likeCounter.getCommentLikesVersion(feedId));
     }
 
     public MessageResDto<List<FeedResDto>> getAllFeeds(int page, String sortBy, LocalDate startDate, LocalDate endDate) {
 
-        Sort sort = Sort.by(Sort.Direction.DESC, sortBy);
-        Pageable pageable = PageRequest.of(page, 10, sort);
-        Page<FeedResDto> feedPage;
+        List<FeedResDto> feedList;
 
-        if (startDate != null && endDate != null) {
-            feedPage = feedRepository.findAllByCreatedAtBetween(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), pageable)
-                    .map(FeedResDto::new);
+        if (SORT_BY_HOT.equals(sortBy)) {
+            feedList = loadHotFeeds(page, startDate, endDate);
         } else {
-            feedPage = feedRepository.findAll(pageable).map(FeedResDto::new);
-        }
+            Sort sort = PAGE_SORTS.get(sortBy);
 
-        List<FeedResDto> feedList = feedPage.getContent();
+            if (sort == null) {
+                throw new IllegalArgumentException(ExceptionMessage.UNSUPPORTED_SORT.getExceptionMessage());
+            }
+
+            feedList = feedCache.getPage(new FeedCache.PageKey(page, sortBy, startDate, endDate),
+                    () -> loadFeeds(page, sort, startDate, endDate));
+        }
 
         if (feedList.isEmpty()) {
             return new MessageResDto<>(HttpStatus.OK.value(), "먼저 작성하여 소식을 알려보세요!", null);
         }
 
-        feedList.forEach(feedResDto -> feedResDto.setComments(null));
+        feedList.forEach(this::applyPendingLikes);
 
         return new MessageResDto<>(HttpStatus.OK.value(), "게시물 조회가 완료되었습니다!", feedList);
     }
 
+    private List<FeedResDto> loadFeeds(int page, Sort sort, LocalDate startDate, LocalDate endDate) {
+
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE, sort);
+        Slice<FeedResDto> feedSlice;
+
+        if (startDate != null && endDate != null) {
+            feedSlice = feedRepository.findSliceByCreatedAtBetween(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), pageable);
+        } else {
+            feedSlice = feedRepository.findSliceBy(pageable);
+        }
+
+        // Projection으로 조회하므로 comments는 항상 null
+        return feedSlice.getContent();
+    }
+
+    // 순위는 메모리의 상위 K개에서 바로 가져오고 게시물만 PK로 조회
+    // 순위가 계속 바뀌므로 게시물 캐시(FeedCache)에 저장하지 않음
+    private List<FeedResDto> loadHotFeeds(int page, LocalDate startDate, LocalDate endDate) {
+
+        // 기간 내 순위는 상위 K개만으로 만들 수 없으므로 지원하지 않음
+        if (startDate != null && endDate != null) {
+            throw new IllegalArgumentException(ExceptionMessage.UNSUPPORTED_SORT.getExceptionMessage());
+        }
+
+        List<Long> feedIds = hotFeedRanking.getPage(page, PAGE_SIZE);
+
+        if (feedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, FeedResDto> feeds = feedRepository.findFeedsByIdIn(feedIds).stream()
+                .collect(Collectors.toMap(FeedResDto::getId, Function.identity()));
+
+        // 순위 조회 이후 삭제된 게시물 제외
+        return feedIds.stream()
+                .map(feeds::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 집계 전이면 null 반환
+    public Long getTotalFeedCount() {
+
+        long count = totalFeedCount.get();
+
+        return count < 0 ? null : count;
+    }
+
+    @Scheduled(fixedDelayString = "${feed.count.refresh.time}")
+    public void refreshTotalFeedCount() {
+
+        try {
+            totalFeedCount.set(feedRepository.count());
+        } catch (RuntimeException e) {
+            log.error("전체 게시물 수 갱신 실패 : {}", e.getMessage());
+        }
+    }
+
+    // OFFSET 없이 (정렬 값, id) 기준으로 다음 페이지를 조회하여 페이지 깊이와 관계없이 일정한 비용으로 조회
+    public MessageResDto<CursorResDto<FeedResDto>> getAllFeedsByCursor(String cursor, String sortBy) {
+
+        // 다음 페이지 존재 여부 확인을 위해 1개를 더 조회
+        Pageable limit = PageRequest.of(0, PAGE_SIZE + 1);
+        List<FeedResDto> feeds;
+
+        if (SORT_BY_CREATED_AT.equals(sortBy)) {
+            Cursor decoded = Cursor.decode(cursor, sortBy);
+            feeds = decoded == null
+                    ? feedRepository.findFeedsOrderByCreatedAt(limit)
+                    : feedRepository.findFeedsBeforeCreatedAtCursor(decoded.getCreatedAtValue(), decoded.getId(), limit);
+        } else if (SORT_BY_LIKES.equals(sortBy)) {
+            Cursor decoded = Cursor.decode(cursor, sortBy);
+            feeds = decoded == null
+                    ? feedRepository.findFeedsOrderByLikes(limit)
+                    : feedRepository.findFeedsBeforeLikesCursor(decoded.getLongValue(), decoded.getId(), limit);
+        } else {
+            throw new IllegalArgumentException(ExceptionMessage.UNSUPPORTED_SORT.getExceptionMessage());
+        }
+
+        if (feeds.isEmpty()) {
+            return new MessageResDto<>(HttpStatus.OK.value(), "먼저 작성하여 소식을 알려보세요!", null);
+        }
+
+        CursorResDto<FeedResDto> resDto = CursorResDto.of(feeds, PAGE_SIZE, last -> Cursor.of(sortBy,
+                SORT_BY_LIKES.equals(sortBy) ? last.getLikes() : last.getCreatedAt(), last.getId()));
+
+        // 커서는 DB에 저장된 값 기준이어야 하므로 커서 생성 후 미반영 좋아요 수를 더함
+        resDto.getItems().forEach(this::applyPendingLikes);
+
+        return new MessageResDto<>(HttpStatus.OK.value(), "게시물 조회가 완료되었습니다!", resDto);
+    }
+
     public MessageResDto<FeedResDto> getFeed(Long feedId) {
 
+        FeedResDto feedResDto = applyPendingCommentLikes(applyPendingLikes(feedCache.getFeed(new FeedCache.DetailKey(feedId, null), () -> loadFeed(feedId))));
+
+        return new MessageResDto<>(HttpStatus.OK.value(), "게시물 조회가 완료되었습니다!", feedResDto);
+    }
+
+    private FeedResDto loadFeed(Long feedId) {
+
         FeedResDto feedResDto = new FeedResDto(findFeed(feedId));
-        List<CommentResDto> commentResDtoList = commentRepository.findAllByFeedId(feedId).stream()
-                .map(CommentResDto::new)
-                .toList();
+        List<CommentResDto> commentResDtoList = commentRepository.findCommentResDtosByFeedId(feedId);
 
         if (commentResDtoList.isEmpty()) {
             feedResDto.setComments(null);
@@ -73,12 +222,35 @@ public class FeedService {
             feedResDto.setComments(commentResDtoList);
         }
 
+        return feedResDto;
+    }
+
+    // 댓글은 처음 commentSize개만 포함하고, 이후 댓글은 nextCommentCursor로 댓글 목록 API를 통해 조회
+    public MessageResDto<FeedResDto> getFeed(Long feedId, int commentSize) {
+
+        int limit = Math.max(1, Math.min(commentSize, CommentService.MAX_COMMENT_PAGE_SIZE));
+
+        FeedResDto feedResDto = applyPendingCommentLikes(applyPendingLikes(feedCache.getFeed(new FeedCache.DetailKey(feedId, limit), () -> loadFeed(feedId, limit))));
+
         return new MessageResDto<>(HttpStatus.OK.value(), "게시물 조회가 완료되었습니다!", feedResDto);
     }
 
+    private FeedResDto loadFeed(Long feedId, int limit) {
+
+        FeedResDto feedResDto = new FeedResDto(findFeed(feedId));
+        List<CommentResDto> comments = commentRepository.findCommentsOrderByCreatedAt(feedId, PageRequest.of(0, limit + 1));
+
+        feedResDto.setCommentPage(CursorResDto.of(comments, limit, CommentService::toCursor));
+
+        return feedResDto;
+    }
+
+    @Transactional
     public MessageResDto<FeedResDto> createFeed(FeedReqDto reqDto, User user) {
 
         Feed feed = feedRepository.save(new Feed(reqDto, user));
+        eventPublisher.publishEvent(new FeedChangedEvent(feed.getId(), FeedChangedEvent.Scope.LIST));
+        eventPublisher.publishEvent(new FeedActivityEvent(feed.getId(), FeedActivityEvent.Activity.CREATED));
 
         return new MessageResDto<>(HttpStatus.OK.value(), "게시물 작성이 완료되었습니다!", new FeedResDto(feed));
     }
@@ -93,10 +265,13 @@ public class FeedService {
         }
 
         feed.update(reqDto);
+        eventPublisher.publishEvent(new FeedChangedEvent(feedId, FeedChangedEvent.Scope.FEED));
 
-        return new MessageResDto<>(HttpStatus.OK.value(), "게시물 수정이 완료되었습니다!", new FeedResDto(feed));
+        return new MessageResDto<>(HttpStatus.OK.value(), "게시물 수정이 완료되었습니다!", applyPendingLikes(new FeedResDto(feed)));
     }
 
+    // 삭제 요청 시각만 기록하고 즉시 응답, 좋아요와 댓글을 포함한 실제 삭제는 FeedPurger가 처리
+    @Transactional
     public MessageResDto<FeedResDto> deleteFeed(Long feedId, User user) {
 
         Feed feed = findFeed(feedId);
@@ -105,36 +280,35 @@ public class FeedService {
             throw new IllegalArgumentException(ExceptionMessage.DIFFERENT_WRITER.getExceptionMessage());
         }
 
-        likeRepository.findAllByContentsIdAndContents(feedId, Contents.FEED)
-                .ifPresent(likes -> likes.stream()
-                        .forEach(like -> likeRepository.delete(like)));
-
-        List<Comment> commentList = commentRepository.findAllByFeedId(feedId);
-
-        commentList.forEach(comment -> {
-            likeRepository.findAllByContentsIdAndContents(comment.getId(), Contents.COMMENT)
-                    .ifPresent(likes -> likes.forEach(like -> likeRepository.delete(like)));
-        });
-
-        feedRepository.delete(feed);
+        feed.delete(LocalDateTime.now());
+        eventPublisher.publishEvent(new FeedChangedEvent(feedId, FeedChangedEvent.Scope.LIST));
+        eventPublisher.publishEvent(new FeedActivityEvent(feedId, FeedActivityEvent.Activity.DELETED));
 
         return new MessageResDto<>(HttpStatus.OK.value(), "게시물 삭제가 완료되었습니다!", null);
     }
 
-    @Transactional
-    public void increaseFeedLikes(Long feedId) {
+    // 아직 DB에 반영되지 않은 좋아요 수를 더해 응답
+    private FeedResDto applyPendingLikes(FeedResDto feedResDto) {
 
-        Feed feed = findFeed(feedId);
+        feedResDto.addLikes(likeCounter.getPendingLikes(Contents.FEED, feedResDto.getId()));
 
-        feed.increaseLikes();
+        return feedResDto;
     }
 
-    @Transactional
-    public void decreaseFeedLikes(Long feedId) {
+    // 캐시된 댓글 목록은 다른 요청과 공유되므로 복사본에 미반영 댓글 좋아요 수를 더함
+    private FeedResDto applyPendingCommentLikes(FeedResDto feedResDto) {
 
-        Feed feed = findFeed(feedId);
+        if (feedResDto.getComments() == null) {
+            return feedResDto;
+        }
+
+        List<CommentResDto> comments = feedResDto.getComments().stream()
+                .map(CommentResDto::new)
+                .peek(comment -> comment.addLikes(likeCounter.getPendingLikes(Contents.COMMENT, comment.getId())))
+                .toList();
+        feedResDto.setComments(comments);
 
-        feed.decreaseLikes();
+        return feedResDto;
     }
 
     public Feed findFeed(Long feedId) {
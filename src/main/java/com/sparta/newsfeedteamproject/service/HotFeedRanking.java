@@ -0,0 +1,259 @@
+package com.sparta.newsfeedteamproject.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시물 인기 점수(좋아요, 댓글)를 활동마다 갱신하고 상위 K개를 메모리에 순위대로 보관 (sortBy=hot)
+// 점수 = Σ 가중치 × 2^(-(현재 - 활동 시각) / 반감기)
+// 모든 게시물의 점수가 같은 비율로 감소하므로 기준 시각(EPOCH)으로 환산한 점수의 로그(log score)를 저장하면 다시 계산하지 않아도 순서가 유지됨
+// 변경량은 주기적으로 feed_score 컬럼에 더하고, 다른 서버의 변경량까지 반영된 상위 K개를 다시 조회
+@Slf4j(topic = "HotFeedRanking")
+@Component
+public class HotFeedRanking {
+
+    // 2024-01-01T00:00:00Z, 기준 시각과 반감기를 바꾸면 저장된 feed_score와 맞지 않음
+    private static final long EPOCH_SECONDS = 1704067200L;
+    private static final double CREATED_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    // 취소가 더 많아 0 이하가 된 점수의 하한 (DB 반영 시각 기준)
+    private static final double MIN_SCORE = 1e-6;
+    // feed_score를 반영 시각 기준 점수로 바꾼 뒤 변경량을 더하고 다시 log score로 저장
+    private static final String UPDATE_SQL =
+            "UPDATE NewsFeed SET feed_score = LN(GREATEST(EXP(feed_score - ?) + ?, ?)) + ? WHERE id = ?";
+    // idx_feed_score_id 인덱스 순서로 상위 K개만 조회
+    private static final String TOP_SQL =
+            "SELECT id, feed_score FROM NewsFeed WHERE deleted_at IS NULL ORDER BY feed_score DESC, id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    // 초당 감소율 (log score는 초당 이만큼 커진 값으로 더해짐)
+    private final double decayPerSecond;
+    private final int capacity;
+    // 점수, 순위, 변경량은 함께 바뀌어야 하므로 하나의 락으로 보호
+    private final Object lock = new Object();
+    // 점수 내림차순
+    private NavigableSet<Scored> ranked = new TreeSet<>();
+    private Map<Long, Double> scores = new HashMap<>();
+    // 조회용 순위 (게시물 id) - 변경을 모두 마친 뒤 한 번에 교체하므로 조회 중 비어있거나 일부만 반영된 순위가 보이지 않음
+    private volatile List<Long> snapshot = List.of();
+    // 아직 DB에 반영되지 않은 변경량 (pendingBase 시각 기준 점수)
+    private Map<Long, Double> pending = new HashMap<>();
+    private long pendingBase = nowSeconds();
+    // 순위(순서)가 바뀔 때마다 증가 (목록 ETag용)
+    private final AtomicLong version = new AtomicLong();
+
+    public HotFeedRanking(JdbcTemplate jdbcTemplate,
+                          @Value("${feed.hot.half-life-hours:12}") double halfLifeHours,
+                          @Value("${feed.hot.capacity:1000}") int capacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.decayPerSecond = Math.log(2) / (halfLifeHours * 3600);
+        this.capacity = capacity;
+    }
+
+    // 인기 순위 page번째 페이지의 게시물 id (상위 K개 밖이면 빈 목록)
+    public List<Long> getPage(int page, int size) {
+
+        List<Long> feedIds = snapshot;
+        long from = (long) page * size;
+
+        if (page < 0 || from >= feedIds.size()) {
+            return List.of();
+        }
+
+        return feedIds.subList((int) from, (int) Math.min(from + size, feedIds.size()));
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onActivity(FeedActivityEvent event) {
+
+        long now = nowSeconds();
+
+        synchronized (lock) {
+            if (event.activity() == FeedActivityEvent.Activity.DELETED) {
+                remove(event.feedId());
+                pending.remove(event.feedId());
+            } else {
+                double weight = weightOf(event.activity());
+                pending.merge(event.feedId(), weight * Math.exp(decayPerSecond * (now - pendingBase)), Double::sum);
+                apply(event.feedId(), weight, now);
+            }
+
+            publish();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${feed.hot.flush.time:10000}")
+    public synchronized void flush() {
+
+        Map<Long, Double> drained;
+        long base;
+
+        synchronized (lock) {
+            drained = pending;
+            base = pendingBase;
+            pending = new HashMap<>();
+            pendingBase = nowSeconds();
+        }
+
+        if (!drained.isEmpty()) {
+            try {
+                double offset = decayPerSecond * (base - EPOCH_SECONDS);
+                List<Object[]> args = drained.entrySet().stream()
+                        .map(entry -> new Object[]{offset, entry.getValue(), MIN_SCORE, offset, entry.getKey()})
+                        .toList();
+
+                jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+            } catch (RuntimeException e) {
+                log.error("인기 점수 반영 실패 : {}", e.getMessage());
+                // 반영하지 못한 변경량은 다음 주기에 다시 반영
+                synchronized (lock) {
+                    double scale = Math.exp(decayPerSecond * (base - pendingBase));
+                    drained.forEach((feedId, delta) -> pending.merge(feedId, delta * scale, Double::sum));
+                }
+            }
+        }
+
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.error("인기 게시물 조회 실패 : {}", e.getMessage());
+        }
+    }
+
+    // 다른 서버의 변경량까지 반영된 상위 K개로 교체한 뒤 아직 반영되지 않은 이 서버의 변경량을 다시 더함
+    private void reload() {
+
+        Map<Long, Double> top = new LinkedHashMap<>();
+        jdbcTemplate.query(TOP_SQL, (RowCallbackHandler) rs -> top.put(rs.getLong("id"), rs.getDouble("feed_score")), capacity);
+
+        synchronized (lock) {
+            scores = new HashMap<>();
+            ranked = new TreeSet<>();
+            top.forEach(this::put);
+            pending.forEach((feedId, delta) -> apply(feedId, delta, pendingBase));
+            publish();
+        }
+    }
+
+    // 락 안에서 변경을 마친 순위를 조회용으로 교체
+    // 점수만 바뀌고 순서가 같으면 버전을 유지하여 목록 ETag가 주기적인 재조회마다 바뀌지 않도록 함
+    private void publish() {
+        List<Long> next = ranked.stream().map(Scored::feedId).toList();
+
+        if (!next.equals(snapshot)) {
+            snapshot = next;
+            version.incrementAndGet();
+        }
+    }
+
+    // 순위에 없던 게시물은 DB 점수를 모르므로 이번 변경량만으로 추정하고 다음 조회에서 보정
+    private void apply(Long feedId, double weight, long atSeconds) {
+
+        if (weight == 0) {
+            return;
+        }
+
+        double logDelta = Math.log(Math.abs(weight)) + decayPerSecond * (atSeconds - EPOCH_SECONDS);
+        Double current = scores.get(feedId);
+
+        if (current == null) {
+            if (weight > 0) {
+                put(feedId, logDelta);
+            }
+            return;
+        }
+
+        ranked.remove(new Scored(feedId, current));
+        double next = weight > 0 ? logAddExp(current, logDelta) : logSubExp(current, logDelta);
+
+        if (next == Double.NEGATIVE_INFINITY) {
+            scores.remove(feedId);
+            return;
+        }
+
+        put(feedId, next);
+    }
+
+    // 상위 K개를 넘으면 가장 낮은 점수를 제외
+    private void put(Long feedId, double score) {
+
+        scores.put(feedId, score);
+        ranked.add(new Scored(feedId, score));
+
+        if (scores.size() > capacity) {
+            Scored lowest = ranked.pollLast();
+            scores.remove(lowest.feedId());
+        }
+    }
+
+    private void remove(Long feedId) {
+
+        Double score = scores.remove(feedId);
+
+        if (score != null) {
+            ranked.remove(new Scored(feedId, score));
+        }
+    }
+
+    private double weightOf(FeedActivityEvent.Activity activity) {
+        return switch (activity) {
+            case CREATED -> CREATED_WEIGHT;
+            case LIKED -> LIKE_WEIGHT;
+            case UNLIKED -> -LIKE_WEIGHT;
+            case COMMENTED -> COMMENT_WEIGHT;
+            case UNCOMMENTED -> -COMMENT_WEIGHT;
+            case DELETED -> 0;
+        };
+    }
+
+    // log(e^a + e^b)
+    private static double logAddExp(double a, double b) {
+
+        double max = Math.max(a, b);
+
+        return max + Math.log1p(Math.exp(-Math.abs(a - b)));
+    }
+
+    // log(e^a - e^b), 0 이하면 -∞
+    private static double logSubExp(double a, double b) {
+
+        if (b >= a) {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        return a + Math.log1p(-Math.exp(b - a));
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    // 점수 내림차순, 같으면 최신 게시물(id 내림차순) 우선
+    private record Scored(Long feedId, double score) implements Comparable<Scored> {
+
+        @Override
+        public int compareTo(Scored other) {
+
+            int compared = Double.compare(other.score, score);
+
+            return compared != 0 ? compared : Long.compare(other.feedId, feedId);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.entity.Contents;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 좋아요 수 변경을 메모리에 모아두었다가 주기적으로 한 번에 DB에 반영하는 카운터
+@Slf4j(topic = "LikeCounter")
+@Component
+public class LikeCounter {
+
+    private static final int STRIPES = 64;
+    private static final int COMMENT_VERSION_STRIPES = 1024;
+    private static final Map<Contents, String> UPDATE_SQL = new EnumMap<>(Map.of(
+            Contents.FEED, "UPDATE NewsFeed SET likes = likes + ? WHERE id = ?",
+            Contents.COMMENT, "UPDATE comment SET likes = likes + ? WHERE id = ?"
+    ));
+
+    private final JdbcTemplate jdbcTemplate;
+    // 게시물/댓글 일괄 반영을 하나의 트랜잭션으로 묶어 일부만 반영된 채 다시 반영되지 않도록 함
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    // 아직 DB에 반영되지 않은 변경량
+    private final ConcurrentHashMap<Key, Pending> pending = new ConcurrentHashMap<>();
+    // 꺼내서 DB에 반영 중인 변경량 (반영 중에도 조회 값이 어긋나지 않도록 유지)
+    private final ConcurrentHashMap<Key, Long> inFlight = new ConcurrentHashMap<>();
+    // 누적(read lock)과 꺼내기(write lock)가 겹쳐 변경량이 유실되지 않도록 키 단위로 나눈 락
+    private final ReadWriteLock[] locks = new ReadWriteLock[STRIPES];
+    // 게시물의 조회 값(DB 값 + 변경량)이 바뀔 때마다 증가 (게시물 목록 ETag용)
+    private final AtomicLong feedLikesVersion = new AtomicLong();
+    // 게시물에 속한 댓글의 조회 값이 바뀔 때마다 증가 (게시물 단건/댓글 ETag용)
+    // 게시물별로 나누어 보관하며, 다른 게시물과 겹치면 ETag가 불필요하게 바뀔 뿐 이전 값과 일치하지는 않음
+    private final AtomicLongArray commentLikesVersions = new AtomicLongArray(COMMENT_VERSION_STRIPES);
+
+    public LikeCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                       ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    // feedId : 좋아요한 게시물 또는 댓글이 속한 게시물 (반영 후 해당 게시물의 캐시 삭제)
+    public void increase(Contents contents, Long contentsId, Long feedId) {
+        add(new Key(contents, contentsId), feedId, 1L);
+    }
+
+    public void decrease(Contents contents, Long contentsId, Long feedId) {
+        add(new Key(contents, contentsId), feedId, -1L);
+    }
+
+    // DB 값에 더해야 하는 아직 반영되지 않은 변경량
+    public long getPendingLikes(Contents contents, Long contentsId) {
+
+        Key key = new Key(contents, contentsId);
+        Pending delta = pending.get(key);
+
+        return (delta == null ? 0L : delta.adder().sum()) + inFlight.getOrDefault(key, 0L);
+    }
+
+    public long getFeedLikesVersion() {
+        return feedLikesVersion.get();
+    }
+
+    public long getCommentLikesVersion(Long feedId) {
+        return commentLikesVersions.get(commentVersionIndex(feedId));
+    }
+
+    @Scheduled(fixedDelayString = "${like.flush.time:1000}")
+    public synchronized void flush() {
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Contents, List<Object[]>> batches = new EnumMap<>(Contents.class);
+        // 반영한 키와 속한 게시물
+        Map<Key, Long> drained = new LinkedHashMap<>();
+
+        for (Key key : pending.keySet()) {
+            Pending delta = drain(key);
+
+            if (delta != null) {
+                batches.computeIfAbsent(key.contents(), contents -> new ArrayList<>()).add(new Object[]{delta.adder().sum(), key.id()});
+                drained.put(key, delta.feedId());
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    batches.forEach((contents, args) -> jdbcTemplate.batchUpdate(UPDATE_SQL.get(contents), args)));
+        } catch (RuntimeException e) {
+            log.error("좋아요 수 반영 실패 : {}", e.getMessage());
+            // 트랜잭션이 롤백되어 반영되지 않은 변경량만 다음 주기에 다시 반영
+            drained.forEach((key, feedId) -> {
+                Long delta = inFlight.remove(key);
+
+                if (delta != null) {
+                    add(key, feedId, delta);
+                }
+            });
+            return;
+        }
+
+        // 커밋된 변경량은 이후 어떤 작업이 실패해도 다시 반영되지 않도록 바로 제거
+        drained.keySet().forEach(inFlight::remove);
+        // 반영 중 DB 값과 변경량이 함께 더해졌던 값이 바뀌므로 다시 증가
+        feedLikesVersion.incrementAndGet();
+        drained.forEach((key, feedId) -> {
+            if (key.contents() == Contents.COMMENT) {
+                commentLikesVersions.incrementAndGet(commentVersionIndex(feedId));
+            }
+        });
+
+        // 캐시된 게시물은 반영 전 좋아요 수를 포함하므로 삭제 (실패해도 변경량은 다시 반영하지 않고 캐시 만료로 보정)
+        // 게시물 좋아요는 목록에도 포함되므로 FEED, 댓글 좋아요는 게시물 단건과 댓글만 바뀌므로 DETAIL (게시물별 한 번만 발행)
+        Map<Long, FeedChangedEvent.Scope> changed = new LinkedHashMap<>();
+        drained.forEach((key, feedId) -> changed.merge(feedId,
+                key.contents() == Contents.FEED ? FeedChangedEvent.Scope.FEED : FeedChangedEvent.Scope.DETAIL,
+                (previous, scope) -> previous == FeedChangedEvent.Scope.FEED ? previous : scope));
+        changed.forEach(this::publishFeedChanged);
+    }
+
+    private void publishFeedChanged(Long feedId, FeedChangedEvent.Scope scope) {
+
+        try {
+            eventPublisher.publishEvent(new FeedChangedEvent(feedId, scope));
+        } catch (RuntimeException e) {
+            log.error("좋아요 수 변경 캐시 삭제 실패 - feedId : {}, {}", feedId, e.getMessage());
+        }
+    }
+
+    // 종료 시 남아있는 변경량을 모두 반영
+    @PreDestroy
+    public void drainOnShutdown() {
+        flush();
+    }
+
+    private void add(Key key, Long feedId, long delta) {
+
+        ReadWriteLock lock = lockFor(key);
+        lock.readLock().lock();
+
+        try {
+            pending.computeIfAbsent(key, k -> new Pending(feedId, new LongAdder())).adder().add(delta);
+
+            if (key.contents() == Contents.FEED) {
+                feedLikesVersion.incrementAndGet();
+            } else {
+                commentLikesVersions.incrementAndGet(commentVersionIndex(feedId));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 꺼낸 변경량 반환, 상쇄되어 반영할 값이 없으면 null
+    // 꺼낸 이후에는 같은 Pending에 더해지지 않으므로 반환 후에도 합계가 바뀌지 않음
+    private Pending drain(Key key) {
+
+        ReadWriteLock lock = lockFor(key);
+        lock.writeLock().lock();
+
+        try {
+            Pending removed = pending.remove(key);
+            long delta = removed == null ? 0L : removed.adder().sum();
+
+            if (delta == 0) {
+                return null;
+            }
+
+            inFlight.merge(key, delta, Long::sum);
+
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private ReadWriteLock lockFor(Key key) {
+        return locks[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+
+    private int commentVersionIndex(Long feedId) {
+        return Math.floorMod(feedId.hashCode(), COMMENT_VERSION_STRIPES);
+    }
+
+    private record Key(Contents contents, Long id) {
+    }
+
+    private record Pending(Long feedId, LongAdder adder) {
+    }
+}
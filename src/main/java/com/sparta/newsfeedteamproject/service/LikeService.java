@@ -3,17 +3,15 @@ package com.sparta.newsfeedteamproject.service;
 import com.sparta.newsfeedteamproject.dto.LikeResDto;
 import com.sparta.newsfeedteamproject.dto.MessageResDto;
 import com.sparta.newsfeedteamproject.entity.Contents;
-import com.sparta.newsfeedteamproject.entity.Like;
-import com.sparta.newsfeedteamproject.entity.User;
-import com.sparta.newsfeedteamproject.exception.ExceptionMessage;
 import com.sparta.newsfeedteamproject.repository.LikeRepository;
 import com.sparta.newsfeedteamproject.security.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -21,71 +19,114 @@ public class LikeService {
     private final LikeRepository likeRepository;
     private final FeedService feedService;
     private final CommentService commentService;
+    private final LikeCounter likeCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 기존 토글 API : 좋아요 등록을 먼저 시도하고 이미 좋아요한 상태면 취소
     public MessageResDto<LikeResDto> likeFeed(Long feedId, UserDetailsImpl userDetails) {
         feedService.findFeed(feedId);
-        User user = userDetails.getUser();
-        Optional<Like> like = likeRepository.findByContentsIdAndContentsAndUser(feedId, Contents.FEED, user);
+        Long userId = userDetails.getUser().getId();
         LikeResDto likeResDto = new LikeResDto(feedId, Contents.FEED);
 
-        if (like.isEmpty()) { //좋아요 등록
-            Like newlike = new Like(user, feedId, Contents.FEED);
-            likeRepository.save(newlike);
+        if (insertLike(userId, Contents.FEED, feedId, feedId)) { //좋아요 등록
+            return new MessageResDto<>(HttpStatus.OK.value(), "게시글을 좋아요하였습니다!", likeResDto);
+        }
 
-            //게시물 DB에 저장된 좋아요 수 +1
-            feedService.increaseFeedLikes(feedId); //FeedSerivce에 구현되어야함
+        //좋아요 취소
+        deleteLike(userId, Contents.FEED, feedId, feedId);
+        return new MessageResDto<>(HttpStatus.OK.value(), "게시글 좋아요를 취소하였습니다!", likeResDto);
+    }
 
-            return new MessageResDto(HttpStatus.OK.value(), "게시글을 좋아요하였습니다!", likeResDto);
+    // 여러 번 요청해도 결과가 같은 좋아요 등록
+    public MessageResDto<LikeResDto> addFeedLike(Long feedId, UserDetailsImpl userDetails) {
+        feedService.findFeed(feedId);
+        insertLike(userDetails.getUser().getId(), Contents.FEED, feedId, feedId);
 
-        } else {//좋아요 취소
-            Like oldLike = like.orElseThrow(
-                    () -> new IllegalArgumentException(ExceptionMessage.NON_EXISTENT_ELEMENT.getExceptionMessage())
-            );
-            likeRepository.delete(oldLike);
+        return new MessageResDto<>(HttpStatus.OK.value(), "게시글을 좋아요하였습니다!", new LikeResDto(feedId, Contents.FEED));
+    }
 
-            //게시물 DB에 저장된 좋아요 수 -1
-            feedService.decreaseFeedLikes(feedId); //FeedSerivce에 구현되어야함
-            return new MessageResDto(HttpStatus.OK.value(), "게시글 좋아요를 취소하였습니다!", likeResDto);
-        }
+    // 여러 번 요청해도 결과가 같은 좋아요 취소
+    public MessageResDto<LikeResDto> cancelFeedLike(Long feedId, UserDetailsImpl userDetails) {
+        feedService.findFeed(feedId);
+        deleteLike(userDetails.getUser().getId(), Contents.FEED, feedId, feedId);
+
+        return new MessageResDto<>(HttpStatus.OK.value(), "게시글 좋아요를 취소하였습니다!", new LikeResDto(feedId, Contents.FEED));
     }
 
     public MessageResDto<LikeResDto> likeComment(Long feedId, Long commentId, UserDetailsImpl userDetails) {
         feedService.findFeed(feedId);
-        commentService.findComment(commentId);
+        Long commentFeedId = commentService.findComment(commentId).getFeed().getId();
 
-        User user = userDetails.getUser();
-        Optional<Like> like = likeRepository.findByContentsIdAndContentsAndUser(commentId, Contents.COMMENT, user);
+        Long userId = userDetails.getUser().getId();
         LikeResDto likeResDto = new LikeResDto(commentId, Contents.COMMENT);
 
-        if (like.isEmpty()) {
-            Like newlike = new Like(user, commentId, Contents.COMMENT);
-            likeRepository.save(newlike);
+        if (insertLike(userId, Contents.COMMENT, commentId, commentFeedId)) {
+            return new MessageResDto<>(HttpStatus.OK.value(), "댓글을 좋아요하였습니다!", likeResDto);
+        }
 
-            commentService.increaseCommentLikes(commentId);
+        deleteLike(userId, Contents.COMMENT, commentId, commentFeedId);
+        return new MessageResDto<>(HttpStatus.OK.value(), "댓글 좋아요를 취소하였습니다.", likeResDto);
+    }
 
-            return new MessageResDto<>(HttpStatus.OK.value(), "댓글을 좋아요하였습니다!", likeResDto);
+    public MessageResDto<LikeResDto> addCommentLike(Long feedId, Long commentId, UserDetailsImpl userDetails) {
+        feedService.findFeed(feedId);
+        Long commentFeedId = commentService.findComment(commentId).getFeed().getId();
+        insertLike(userDetails.getUser().getId(), Contents.COMMENT, commentId, commentFeedId);
 
-        } else {
-            Like oldLike = like.orElseThrow(
-                    () -> new IllegalArgumentException(ExceptionMessage.NON_EXISTENT_ELEMENT.getExceptionMessage())
-            );
-            likeRepository.delete(oldLike);
+        return new MessageResDto<>(HttpStatus.OK.value(), "댓글을 좋아요하였습니다!", new LikeResDto(commentId, Contents.COMMENT));
+    }
 
-            commentService.decreaseCommentLikes(commentId);
-            return new MessageResDto<>(HttpStatus.OK.value(), "댓글 좋아요를 취소하였습니다.", likeResDto);
+    public MessageResDto<LikeResDto> cancelCommentLike(Long feedId, Long commentId, UserDetailsImpl userDetails) {
+        feedService.findFeed(feedId);
+        Long commentFeedId = commentService.findComment(commentId).getFeed().getId();
+        deleteLike(userDetails.getUser().getId(), Contents.COMMENT, commentId, commentFeedId);
+
+        return new MessageResDto<>(HttpStatus.OK.value(), "댓글 좋아요를 취소하였습니다.", new LikeResDto(commentId, Contents.COMMENT));
+    }
+
+    // 실제로 등록된 경우(affected row = 1)에만 좋아요 수 +1
+    // feedId : 댓글 좋아요는 요청 경로가 아닌 댓글이 실제로 속한 게시물 (반영 시 해당 게시물의 캐시 삭제)
+    private boolean insertLike(Long userId, Contents contents, Long contentsId, Long feedId) {
+        if (likeRepository.insertIgnore(userId, contents.name(), contentsId) == 0) {
+            return false;
+        }
+
+        likeCounter.increase(contents, contentsId, feedId);
+        publishActivity(contents, contentsId, FeedActivityEvent.Activity.LIKED);
+        return true;
+    }
+
+    // 실제로 삭제된 경우(affected row = 1)에만 좋아요 수 -1
+    private boolean deleteLike(Long userId, Contents contents, Long contentsId, Long feedId) {
+        if (likeRepository.deleteByUserIdAndContents(userId, contents, contentsId) == 0) {
+            return false;
+        }
+
+        likeCounter.decrease(contents, contentsId, feedId);
+        publishActivity(contents, contentsId, FeedActivityEvent.Activity.UNLIKED);
+        return true;
+    }
+
+    // 게시물 좋아요만 인기 점수(HotFeedRanking)에 반영
+    private void publishActivity(Contents contents, Long contentsId, FeedActivityEvent.Activity activity) {
+        if (contents == Contents.FEED) {
+            eventPublisher.publishEvent(new FeedActivityEvent(contentsId, activity));
         }
     }
 
     //게시글 or 댓글 삭제 시 해당 게시글 or 댓글의 좋아요를 모두 삭제하는 메서드
+    @Transactional
     public void deleteAllLikes(Long contentsId, Contents contentType) {
-        likeRepository.findAllByContentsIdAndContents(contentsId, contentType)
-                .ifPresent(likes -> likes.stream()
-                        .forEach(like -> likeRepository.delete(like)));
+        likeRepository.deleteAllByContentsAndContentsIdIn(contentType, List.of(contentsId));
     }
 
     //게시글 삭제 시 해당 게시글의 댓글들의 좋아요를 모두 삭제하는 메서드
+    @Transactional
     public void deleteAllCommentsLikes(List<Long> contentsIds, Contents contentType) {
-        contentsIds.stream()
-                .forEach(id -> deleteAllLikes(id, contentType));
+        if (contentsIds.isEmpty()) {
+            return;
+        }
+
+        likeRepository.deleteAllByContentsAndContentsIdIn(contentType, contentsIds);
     }
 }
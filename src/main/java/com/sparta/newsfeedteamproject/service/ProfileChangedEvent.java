@@ -0,0 +1,5 @@
+package com.sparta.newsfeedteamproject.service;
+
+// 프로필 조회 결과가 바뀌는 변경 (프로필 수정, 회원 탈퇴)
+public record ProfileChangedEvent(Long userId) {
+}
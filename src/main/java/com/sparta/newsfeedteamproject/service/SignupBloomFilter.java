@@ -0,0 +1,86 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.util.BloomFilter;
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+// 사용 중인 username, email 의 근사 필터 (false면 DB 조회 없이 사용 가능, true면 DB에서 다시 확인)
+// 탈퇴한 회원도 users 행이 남아 있으므로 필터에서 제거할 필요 없음
+@Slf4j(topic = "SignupBloomFilter")
+@Component
+public class SignupBloomFilter implements MessageListener {
+
+    public static final String CHANNEL = "user:signup";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final String USERNAME_PREFIX = "u:";
+    private static final String EMAIL_PREFIX = "e:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisUtil redisUtil;
+    private final BloomFilter filter;
+    // 기존 회원을 모두 불러오기 전에는 필터를 신뢰할 수 없으므로 항상 DB에서 확인
+    private volatile boolean loaded = false;
+
+    public SignupBloomFilter(JdbcTemplate jdbcTemplate, RedisUtil redisUtil,
+                             @Value("${signup.bloom.expected-insertions:1000000}") int expectedInsertions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisUtil = redisUtil;
+        this.filter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        jdbcTemplate.query("SELECT username, email FROM users", rs -> {
+            put(rs.getString("username"), rs.getString("email"));
+        });
+        loaded = true;
+    }
+
+    public boolean mightBeTakenUsername(String username) {
+        return !loaded || filter.mightContain(key(USERNAME_PREFIX, username));
+    }
+
+    public boolean mightBeTakenEmail(String email) {
+        return !loaded || filter.mightContain(key(EMAIL_PREFIX, email));
+    }
+
+    // 가입 완료 후 추가하고 다른 서버에도 전파 ("username\nemail")
+    public void add(String username, String email) {
+        put(username, email);
+
+        try {
+            redisUtil.publish(CHANNEL, username + "\n" + email);
+        } catch (RuntimeException e) {
+            log.warn("회원가입 정보를 전파하지 못했습니다. username : {}", username, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split("\n");
+
+        if (body.length == 2) {
+            put(body[0], body[1]);
+        }
+    }
+
+    private void put(String username, String email) {
+        filter.put(key(USERNAME_PREFIX, username));
+        filter.put(key(EMAIL_PREFIX, email));
+    }
+
+    // DB에서 대소문자만 다른 값은 같은 값으로 취급하므로 소문자로 저장/조회
+    private String key(String prefix, String value) {
+        return prefix + value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,5 @@
+package com.sparta.newsfeedteamproject.service;
+
+// 회원가입(인증 전 사용자 저장) 완료 - 커밋 이후 인증번호 발송
+public record SignupCompletedEvent(String email) {
+}
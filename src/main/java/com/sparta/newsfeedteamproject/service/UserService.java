@@ -1,21 +1,28 @@
 package com.sparta.newsfeedteamproject.service;
 
 import com.sparta.newsfeedteamproject.dto.user.ProfileResDto;
+import com.sparta.newsfeedteamproject.dto.user.SignupAvailabilityResDto;
 import com.sparta.newsfeedteamproject.dto.user.SignupReqDto;
 import com.sparta.newsfeedteamproject.dto.user.UpdateReqDto;
 import com.sparta.newsfeedteamproject.dto.user.UserAuthReqDto;
+import com.sparta.newsfeedteamproject.dto.user.VerifyReqDto;
 import com.sparta.newsfeedteamproject.entity.Status;
 import com.sparta.newsfeedteamproject.entity.User;
 import com.sparta.newsfeedteamproject.exception.ExceptionMessage;
 import com.sparta.newsfeedteamproject.repository.UserRepository;
 import com.sparta.newsfeedteamproject.security.UserDetailsImpl;
+import com.sparta.newsfeedteamproject.security.RefreshTokenStore;
+import com.sparta.newsfeedteamproject.security.TokenRevocationStore;
+import com.sparta.newsfeedteamproject.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -23,30 +30,88 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final RefreshTokenStore refreshTokenStore;
+    private final SignupBloomFilter signupBloomFilter;
+    private final EmailVerificationService emailVerificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeWatermark changeWatermark;
 
     public void signup(SignupReqDto reqDto) {
 
         String username = reqDto.getUsername();
-        String password = passwordEncoder.encode(reqDto.getPassword());
         String name = reqDto.getName();
         String email = reqDto.getEmail();
         String userInfo = reqDto.getUserInfo();
 
-        Optional<User> checkUsername = userRepository.findByUsername(username);
-        if (checkUsername.isPresent()) {
-            throw new IllegalArgumentException(ExceptionMessage.DUPLICATE_USERNAME.getExceptionMessage());
-        }
-
-        Optional<User> checkEmail = userRepository.findByEmail(email);
-        if (checkEmail.isPresent()) {
-            throw new IllegalArgumentException(ExceptionMessage.DUPLICATE_EMAIL.getExceptionMessage());
+        // 비밀번호 해싱 전에 중복 확인 (필터에서 사용 중일 가능성이 있을 때만 한 번의 쿼리로 확인)
+        if (signupBloomFilter.mightBeTakenUsername(username) || signupBloomFilter.mightBeTakenEmail(email)) {
+            checkDuplicate(userRepository.findAllByUsernameOrEmail(username, email), username, email);
         }
 
-        Status status = Status.ACTIVATE;
+        String password = passwordEncoder.encode(reqDto.getPassword());
+        // 이메일 인증 완료 전까지 로그인 불가
+        Status status = Status.UNAUTHORIZED;
         LocalDateTime statusModTime = LocalDateTime.now();
 
         User user = new User(username, password, name, email, userInfo, status, statusModTime);
-        userRepository.save(user);
+
+        // 동시 가입으로 확인 이후 중복된 경우 unique 제약 조건 위반으로 판별
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e, username, email);
+        }
+
+        signupBloomFilter.add(username, email);
+        // 사용자 저장 커밋 이후 발송, SMTP 발송은 기다리지 않음 (발송하지 못한 경우 인증번호 재발송 요청으로 다시 받을 수 있음)
+        eventPublisher.publishEvent(new SignupCompletedEvent(email));
+    }
+
+    @Transactional
+    public void verifyEmail(VerifyReqDto reqDto) {
+        User user = findByEmail(reqDto.getEmail());
+
+        if (user.getStatus() != Status.UNAUTHORIZED) {
+            throw new IllegalArgumentException(ExceptionMessage.AUTHENTICATED_USER.getExceptionMessage());
+        }
+
+        if (!emailVerificationService.verifyCode(reqDto.getEmail(), reqDto.getCode())) {
+            throw new IllegalArgumentException(ExceptionMessage.UNVALID_CODE.getExceptionMessage());
+        }
+
+        user.setStatus(Status.ACTIVATE);
+        user.setStatusModTime(LocalDateTime.now());
+        userDetailsService.evictUser(user.getUsername());
+    }
+
+    // 가입하지 않았거나 이미 인증한 이메일도 같은 응답을 반환하여 이메일로 가입 여부를 확인할 수 없도록 함
+    public void resendCode(String email, String clientIp) {
+        emailVerificationService.checkResendAllowed(email, clientIp);
+
+        boolean unauthorized = userRepository.findByEmail(email)
+                .map(user -> user.getStatus() == Status.UNAUTHORIZED)
+                .orElse(false);
+
+        // 발송 대기열이 가득 차 발송하지 못한 경우에도 같은 응답 (재발송 간격을 해제하므로 바로 다시 요청 가능)
+        if (unauthorized) {
+            emailVerificationService.sendCode(email);
+        }
+    }
+
+    public SignupAvailabilityResDto checkAvailability(String username, String email) {
+        boolean usernameTaken = username != null && signupBloomFilter.mightBeTakenUsername(username);
+        boolean emailTaken = email != null && signupBloomFilter.mightBeTakenEmail(email);
+
+        // 필터 음성은 DB 조회 없이 사용 가능, 양성인 경우에만 오탐인지 DB에서 확인
+        if (usernameTaken || emailTaken) {
+            List<User> users = userRepository.findAllByUsernameOrEmail(username, email);
+            usernameTaken = usernameTaken && users.stream().anyMatch(user -> user.getUsername().equalsIgnoreCase(username));
+            emailTaken = emailTaken && users.stream().anyMatch(user -> user.getEmail().equalsIgnoreCase(email));
+        }
+
+        return new SignupAvailabilityResDto(username == null ? null : !usernameTaken, email == null ? null : !emailTaken);
     }
 
     @Transactional
@@ -60,7 +125,8 @@ public class UserService {
             throw new IllegalArgumentException(ExceptionMessage.INCORRECT_USER.getExceptionMessage());
         }
 
-        String password = userDetails.getUser().getPassword();
+        // 인증 정보는 토큰으로 구성되어 비밀번호가 없으므로 DB에서 조회한 사용자의 비밀번호와 비교
+        String password = loginUser.getPassword();
 
         if (!passwordEncoder.matches(reqDto.getPassword(), password)) {
             throw new IllegalArgumentException(ExceptionMessage.INCORRECT_PASSWORD.getExceptionMessage());
@@ -74,6 +140,8 @@ public class UserService {
         checkUser.setStatusModTime(LocalDateTime.now());
 
         userRepository.save(checkUser);
+        userDetailsService.evictUser(checkUser.getUsername());
+        eventPublisher.publishEvent(new ProfileChangedEvent(checkUser.getId()));
         logout(checkUser.getId(), userDetails);
     }
 
@@ -84,7 +152,15 @@ public class UserService {
         if (!user.getId().equals(jwtUser.getId())) {
             throw new IllegalArgumentException(ExceptionMessage.INCORRECT_USER.getExceptionMessage());
         }
-        user.deleteRefreshToken();
+        refreshTokenStore.delete(user.getUsername());
+        // 이미 발급된 access token도 DB 조회 없이 거부되도록 폐기 시각 기록
+        tokenRevocationStore.revokeTokens(user.getId());
+    }
+
+
+    // 프로필 ETag - 사용자를 조회하지 않고 마지막 프로필 변경 시점으로 생성
+    public String getProfileETag(Long userId) {
+        return changeWatermark.eTag("u" + userId, changeWatermark.profile(userId));
     }
 
     public ProfileResDto getProfile(Long userId) {
@@ -111,7 +187,7 @@ public class UserService {
             throw new IllegalArgumentException(ExceptionMessage.DEATIVATE_USER.getExceptionMessage());
         }
 
-        String password = userDetails.getUser().getPassword();
+        String password = loginUser.getPassword();
 
         if (!passwordEncoder.matches(reqDto.getPassword(), password)) {
             throw new IllegalArgumentException(ExceptionMessage.INCORRECT_PASSWORD.getExceptionMessage());
@@ -128,6 +204,8 @@ public class UserService {
 
         checkUser.update(name, userInfo, newPassword, modifiedAt);
         userRepository.save(checkUser);
+        userDetailsService.evictUser(checkUser.getUsername());
+        eventPublisher.publishEvent(new ProfileChangedEvent(checkUser.getId()));
 
         return new ProfileResDto(checkUser);
     }
@@ -149,4 +227,35 @@ public class UserService {
                 () -> new IllegalArgumentException(ExceptionMessage.NOT_FOUND_USER.getExceptionMessage())
         );
     }
+
+    // username, email 컬럼은 대소문자를 구분하지 않는 collation이므로 같은 방식으로 비교
+    private void checkDuplicate(List<User> users, String username, String email) {
+        if (users.stream().anyMatch(user -> user.getUsername().equalsIgnoreCase(username))) {
+            throw new IllegalArgumentException(ExceptionMessage.DUPLICATE_USERNAME.getExceptionMessage());
+        }
+
+        if (users.stream().anyMatch(user -> user.getEmail().equalsIgnoreCase(email))) {
+            throw new IllegalArgumentException(ExceptionMessage.DUPLICATE_EMAIL.getExceptionMessage());
+        }
+    }
+
+    private RuntimeException translateDuplicate(DataIntegrityViolationException e, String username, String email) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage());
+
+        if (message.contains("uk_users_username")) {
+            return new IllegalArgumentException(ExceptionMessage.DUPLICATE_USERNAME.getExceptionMessage());
+        }
+
+        if (message.contains("uk_users_email")) {
+            return new IllegalArgumentException(ExceptionMessage.DUPLICATE_EMAIL.getExceptionMessage());
+        }
+
+        // 이전 스키마의 이름 없는 unique 인덱스에서 위반된 경우 다시 조회하여 판별
+        try {
+            checkDuplicate(userRepository.findAllByUsernameOrEmail(username, email), username, email);
+        } catch (IllegalArgumentException duplicate) {
+            return duplicate;
+        }
+        return e;
+    }
 }
@@ -0,0 +1,198 @@
+package com.sparta.newsfeedteamproject.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+// 인증 메일을 요청 스레드에서 SMTP로 보내지 않고 크기가 제한된 대기열에 넣은 후 전용 스레드에서 모아서 발송
+// 한 번에 꺼낸 메일은 하나의 SMTP 연결로 발송하고, 실패한 메일만 점점 늘어나는 간격으로 재시도
+@Slf4j(topic = "VerificationMailSender")
+@Component
+public class VerificationMailSender {
+
+    private static final long POLL_TIMEOUT_MILLIS = 200L;
+    private static final String SUBJECT = "[Newsfeed] 회원가입 인증번호";
+    private static final String TEMPLATE = "mail";
+
+    private final JavaMailSender mailSender;
+    // 템플릿은 최초 한 번만 파싱되어 엔진 캐시에 유지됨 (spring.thymeleaf.cache=true)
+    private final ITemplateEngine templateEngine;
+    private final String from;
+    private final BlockingQueue<VerificationMail> queue;
+    private final DelayQueue<VerificationMail> retryQueue = new DelayQueue<>();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public VerificationMailSender(JavaMailSender mailSender,
+                                  ITemplateEngine templateEngine,
+                                  @Value("${mail.verification.from:}") String from,
+                                  @Value("${mail.verification.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${mail.verification.batch-size:50}") int batchSize,
+                                  @Value("${mail.verification.max-attempts:3}") int maxAttempts,
+                                  @Value("${mail.verification.retry-backoff:1000}") long retryBackoffMillis) {
+        this.mailSender = mailSender;
+        this.templateEngine = templateEngine;
+        this.from = from;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    // 대기열이 가득 찬 경우 기다리지 않고 false 반환
+    public boolean enqueue(String email, String code) {
+        return queue.offer(new VerificationMail(email, code, 1, System.nanoTime()));
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "verification-mail-sender");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        List<VerificationMail> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                VerificationMail first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (first != null) {
+                    batch.add(first);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                // 재시도 대기열에서는 대기 시간이 지난 메일만 꺼냄
+                retryQueue.drainTo(batch, batchSize - batch.size());
+
+                if (!batch.isEmpty()) {
+                    sendBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("인증 메일 발송 중 오류가 발생했습니다.", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void sendBatch(List<VerificationMail> batch) {
+        Map<MimeMessage, VerificationMail> messages = new IdentityHashMap<>();
+
+        for (VerificationMail mail : batch) {
+            try {
+                messages.put(createMessage(mail), mail);
+            } catch (MessagingException e) {
+                log.error("인증 메일을 생성하지 못했습니다. email : {}", mail.email, e);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            // 연결 실패 시에는 모든 메일이, 일부 수신자 오류 시에는 해당 메일만 포함됨
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(this::retry);
+            } else {
+                e.getFailedMessages().keySet().forEach(message -> retry(messages.get(message)));
+            }
+        } catch (MailException e) {
+            messages.values().forEach(this::retry);
+        }
+    }
+
+    private MimeMessage createMessage(VerificationMail mail) throws MessagingException {
+        Context context = new Context();
+        context.setVariable("code", mail.code);
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setTo(mail.email);
+        if (StringUtils.hasText(from)) {
+            helper.setFrom(from);
+        }
+        helper.setSubject(SUBJECT);
+        helper.setText(templateEngine.process(TEMPLATE, context), true);
+
+        return message;
+    }
+
+    private void retry(VerificationMail mail) {
+        if (mail == null) {
+            return;
+        }
+
+        if (mail.attempt >= maxAttempts) {
+            log.error("인증 메일 발송에 {}회 실패하여 중단합니다. email : {}", mail.attempt, mail.email);
+            return;
+        }
+
+        long backoffNanos = TimeUnit.MILLISECONDS.toNanos(retryBackoffMillis << (mail.attempt - 1));
+        retryQueue.offer(new VerificationMail(mail.email, mail.code, mail.attempt + 1, System.nanoTime() + backoffNanos));
+    }
+
+    private static class VerificationMail implements Delayed {
+
+        private final String email;
+        private final String code;
+        private final int attempt;
+        private final long readyAtNanos;
+
+        VerificationMail(String email, String code, int attempt, long readyAtNanos) {
+            this.email = email;
+            this.code = code;
+            this.attempt = attempt;
+            this.readyAtNanos = readyAtNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.sparta.newsfeedteamproject.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 집합 포함 여부의 근사 필터 (false면 확실히 없음, true면 정확한 저장소에서 다시 확인)
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.max(Long.SIZE, Math.min(optimalBits, Integer.MAX_VALUE - Long.SIZE));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitSize + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    public void put(long value) {
+        long hash1 = mix(value);
+        long hash2 = mix(hash1 ^ value);
+
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash1 + i * hash2);
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public void put(String value) {
+        put(hash(value));
+    }
+
+    public boolean mightContain(String value) {
+        return mightContain(hash(value));
+    }
+
+    public boolean mightContain(long value) {
+        long hash1 = mix(value);
+        long hash2 = mix(hash1 ^ value);
+
+        for (int i = 0; i < hashCount; i++) {
+            int index = index(hash1 + i * hash2);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(long combinedHash) {
+        return (int) ((combinedHash & Long.MAX_VALUE) % bitSize);
+    }
+
+    // 문자열을 64비트로 해싱 (String.hashCode 의 32비트 충돌을 피하기 위함)
+    private static long hash(String value) {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        return hash;
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
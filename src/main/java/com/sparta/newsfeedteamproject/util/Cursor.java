@@ -0,0 +1,74 @@
+package com.sparta.newsfeedteamproject.util;
+
+import com.sparta.newsfeedteamproject.exception.ExceptionMessage;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Keyset Pagination에 사용되는 커서
+// 정렬 기준(sortKey), 마지막 요소의 정렬 값(value), 마지막 요소의 id를 Base64로 인코딩하여 Client에 불투명한 문자열로 전달
+@Getter
+public class Cursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String sortKey;
+    private final String value;
+    private final Long id;
+
+    private Cursor(String sortKey, String value, Long id) {
+        this.sortKey = sortKey;
+        this.value = value;
+        this.id = id;
+    }
+
+    public static Cursor of(String sortKey, Object value, Long id) {
+        return new Cursor(sortKey, String.valueOf(value), id);
+    }
+
+    public String encode() {
+        String raw = sortKey + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 빈 문자열은 첫 페이지 요청이므로 null 반환
+    public static Cursor decode(String cursor, String expectedSortKey) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+
+            if (parts.length != 3 || !parts[0].equals(expectedSortKey)) {
+                throw new IllegalArgumentException(ExceptionMessage.UNVALID_CURSOR.getExceptionMessage());
+            }
+
+            return new Cursor(parts[0], parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩 실패, 숫자 파싱 실패 모두 잘못된 커서로 처리
+            throw new IllegalArgumentException(ExceptionMessage.UNVALID_CURSOR.getExceptionMessage());
+        }
+    }
+
+    // 정렬 값 변환 실패도 잘못된 커서로 처리
+    public LocalDateTime getCreatedAtValue() {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(ExceptionMessage.UNVALID_CURSOR.getExceptionMessage());
+        }
+    }
+
+    public Long getLongValue() {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ExceptionMessage.UNVALID_CURSOR.getExceptionMessage());
+        }
+    }
+}
@@ -4,27 +4,47 @@ import com.sparta.newsfeedteamproject.config.JwtConfig;
 import com.sparta.newsfeedteamproject.entity.Status;
 import com.sparta.newsfeedteamproject.entity.User;
 import com.sparta.newsfeedteamproject.exception.ExceptionMessage;
-import com.sparta.newsfeedteamproject.service.UserService;
+import com.sparta.newsfeedteamproject.security.RefreshTokenStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 
 @Slf4j(topic = "JwtProvider")
 @Component
 public class JwtProvider {
 
-    private final UserService userService;
-
-    public JwtProvider(UserService userService) {
-        this.userService = userService;
+    private static final long VERIFIED_TOKEN_CACHE_MAXIMUM_SIZE = 10_000L;
+    private static final Duration VERIFIED_TOKEN_CACHE_MAX_TTL = Duration.ofMinutes(10);
+
+    private final RefreshTokenStore refreshTokenStore;
+    // 서명 키가 설정된 thread-safe 파서를 재사용
+    private final JwtParser jwtParser;
+    // 최근 검증된 토큰의 Claims (토큰 SHA-256 해시 기준, 토큰 만료 시각까지만 유지)
+    private final Cache<String, Claims> verifiedTokenCache = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_MAXIMUM_SIZE)
+            .expireAfter(new UntilTokenExpiry())
+            .build();
+
+    public JwtProvider(RefreshTokenStore refreshTokenStore, JwtParser jwtParser) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.jwtParser = jwtParser;
     }
 
-    public String createAccessToken(String username, Status status) {
+    // access token만으로 인증 처리할 수 있도록 사용자 id를 함께 저장
+    public String createAccessToken(Long userId, String username, Status status) {
         Date date = new Date();
 
         return JwtConfig.BEARER_PREFIX +
@@ -32,26 +52,25 @@ public class JwtProvider {
                         .setSubject(username)
                         .setExpiration(new Date(date.getTime() + JwtConfig.accessTokenTime))
                         .claim(JwtConfig.AUTHORIZATION_KEY, status)
+                        .claim(JwtConfig.USER_ID_KEY, userId)
                         .setIssuedAt(date)
                         .signWith(JwtConfig.key, JwtConfig.signatureAlgorithm)
                         .compact();
     }
 
-    @Transactional
     public String createRefreshToken(String username, Status status) {
         Date date = new Date();
 
-        String refreshToken = JwtConfig.BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(username)
-                        .setExpiration(new Date(date.getTime() + JwtConfig.refreshTokenTime))
-                        .claim(JwtConfig.AUTHORIZATION_KEY, status)
-                        .setIssuedAt(date)
-                        .signWith(JwtConfig.key, JwtConfig.signatureAlgorithm)
-                        .compact();
-        User user = userService.findByUsername(username);
-        user.updateRefreshToken(refreshToken);
-        return refreshToken;
+        String refreshToken = Jwts.builder()
+                .setSubject(username)
+                .setExpiration(new Date(date.getTime() + JwtConfig.refreshTokenTime))
+                .claim(JwtConfig.AUTHORIZATION_KEY, status)
+                .setIssuedAt(date)
+                .signWith(JwtConfig.key, JwtConfig.signatureAlgorithm)
+                .compact();
+        // users 테이블이 아닌 refresh token 저장소에 저장
+        refreshTokenStore.save(username, refreshToken);
+        return JwtConfig.BEARER_PREFIX + refreshToken;
     }
 
     public String getJwtFromHeader(HttpServletRequest request, String tokenHeaderValue) {
@@ -66,34 +85,94 @@ public class JwtProvider {
     }
 
 
-    public boolean isTokenValidate(String token) {
+    // 토큰을 한 번만 파싱하여 유효/만료/위조 상태와 Claims를 함께 반환
+    public TokenVerification verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return TokenVerification.invalid();
+        }
+
+        String cacheKey = hash(token);
+        Claims cached = verifiedTokenCache.getIfPresent(cacheKey);
+
+        if (cached != null && cached.getExpiration().after(new Date())) {
+            return TokenVerification.valid(cached);
+        }
+
         try {
-            Jwts.parserBuilder().setSigningKey(JwtConfig.key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+            if (claims.getExpiration() != null) {
+                verifiedTokenCache.put(cacheKey, claims);
+            }
+
+            return TokenVerification.valid(claims);
         } catch (SecurityException | MalformedJwtException | SignatureException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
             log.error("Expired JWT token, 만료된 JWT token 입니다.");
+            return TokenVerification.expired(e.getClaims());
         } catch (UnsupportedJwtException e) {
             log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.");
         } catch (IllegalArgumentException e) {
             log.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.");
         }
-        return false;
+        return TokenVerification.invalid();
+    }
+
+    // access token Claims로 사용자 구성 (DB 조회 없음, 비밀번호 등 토큰에 없는 값은 비어 있음)
+    public User getUserFromClaims(Claims claims) {
+        User user = new User();
+        user.setId(claims.get(JwtConfig.USER_ID_KEY, Long.class));
+        user.setUsername(claims.getSubject());
+        user.setStatus(Status.valueOf(claims.get(JwtConfig.AUTHORIZATION_KEY, String.class)));
+
+        return user;
+    }
+
+    public boolean isTokenValidate(String token) {
+        return verify(token).isValid();
     }
 
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(JwtConfig.key).build().parseClaimsJws(token).getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
-    @Transactional
-    public void reCreateTokens(String username, HttpServletResponse response) {
+    // 필터에서 이미 조회한 사용자로 토큰 재생성
+    public void reCreateTokens(User user, HttpServletResponse response) {
 
-        User user = userService.findByUsername(username);
-        String accessToken = createAccessToken(user.getUsername(), user.getStatus());
+        String accessToken = createAccessToken(user.getId(), user.getUsername(), user.getStatus());
         String refreshToken = createRefreshToken(user.getUsername(), user.getStatus());
 
         response.addHeader(JwtConfig.ACCESS_TOKEN_HEADER, accessToken);
         response.addHeader(JwtConfig.REFRESH_TOKEN_HEADER, refreshToken);
     }
-}
\ No newline at end of file
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 캐시 항목은 토큰 만료 시각과 최대 유지 시간 중 먼저 도래하는 시점에 제거
+    private static class UntilTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long untilExpiry = Duration.ofMillis(claims.getExpiration().getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0L, Math.min(untilExpiry, VERIFIED_TOKEN_CACHE_MAX_TTL.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -2,16 +2,32 @@ package com.sparta.newsfeedteamproject.util;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j(topic = "Redis")
 @Component
 @RequiredArgsConstructor
 public class RedisUtil {
+    // INCR과 처음 생성된 키의 EXPIRE를 한 번에 실행 (두 명령 사이에 실패해도 만료 시간 없는 키가 남지 않음)
+    private static final RedisScript<Long> INCREASE_SCRIPT = RedisScript.of(
+            "local value = redis.call('INCR', KEYS[1]) " +
+            "if value == 1 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end " +
+            "return value", Long.class);
+
     private final StringRedisTemplate template;
 
     public String getData(String key) {
@@ -29,7 +45,89 @@ public class RedisUtil {
         valueOperations.set(key, value, expireDuration);
     }
 
+    // 키가 없을 때만 저장 (저장한 경우 true)
+    public boolean setDataIfAbsent(String key, String value, long duration) {
+        return Boolean.TRUE.equals(template.opsForValue().setIfAbsent(key, value, Duration.ofSeconds(duration)));
+    }
+
+    // 1 증가시킨 값 반환, 처음 생성된 경우에만 만료 시간 설정
+    public long increaseData(String key, long duration) {
+        Long value = template.execute(INCREASE_SCRIPT, List.of(key), String.valueOf(duration));
+        return value == null ? 0L : value;
+    }
+
+    // 남은 만료 시간(초) 반환, 키가 없으면 -2, 만료 시간이 없으면 -1
+    public long getExpire(String key) {
+        Long expire = template.getExpire(key);
+        return expire == null ? -2L : expire;
+    }
+
     public void deleteData(String key) {
         template.delete(key);
     }
-}
\ No newline at end of file
+
+    public void deleteData(Collection<String> keys) {
+        template.delete(keys);
+    }
+
+    public String getHashValue(String key, String field) {
+        return template.<String, String>opsForHash().get(key, field);
+    }
+
+    public void putHashValue(String key, String field, String value, long duration) {
+        template.opsForHash().put(key, field, value);
+        template.expire(key, Duration.ofSeconds(duration));
+    }
+
+    public Set<String> getSetMembers(String key) {
+        Set<String> members = template.opsForSet().members(key);
+        return members == null ? Set.of() : members;
+    }
+
+    // 여러 Set에 같은 값을 추가하는 명령을 한 번의 왕복(pipeline)으로 전송
+    public void addToSets(Collection<String> keys, String member, long duration) {
+        template.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            for (String key : keys) {
+                stringConnection.sAdd(key, member);
+                stringConnection.expire(key, duration);
+            }
+            return null;
+        });
+    }
+
+    public void addToSortedSet(String key, String member, double score, long duration) {
+        template.opsForZSet().add(key, member, score);
+        template.expire(key, Duration.ofSeconds(duration));
+    }
+
+    public void removeSortedSetRangeByScore(String key, double min, double max) {
+        template.opsForZSet().removeRangeByScore(key, min, max);
+    }
+
+    public long getSortedSetSize(String key) {
+        Long size = template.opsForZSet().zCard(key);
+        return size == null ? 0L : size;
+    }
+
+    public Double getSortedSetMaxScore(String key) {
+        Set<ZSetOperations.TypedTuple<String>> last = template.opsForZSet().reverseRangeWithScores(key, 0, 0);
+        return last == null || last.isEmpty() ? null : last.iterator().next().getScore();
+    }
+
+    public void publish(String channel, String message) {
+        template.convertAndSend(channel, message);
+    }
+
+    // KEYS 대신 SCAN으로 조회하여 Redis를 블로킹하지 않음
+    public List<String> scanKeys(String pattern) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+
+        try (Cursor<String> cursor = template.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,76 @@
+package com.sparta.newsfeedteamproject.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+// 같은 키에 대한 조회가 동시에 들어오면 처음 요청만 loader를 실행하고 나머지는 그 결과를 함께 사용
+// 조회가 끝나면 키를 제거하므로 결과를 보관하지 않음 (보관은 호출하는 캐시에서 담당)
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    // 진행 중인 조회가 있으면 기다린 후 같은 결과(또는 같은 예외)를 반환
+    public V load(K key, Supplier<V> loader) {
+
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            return await(existing);
+        }
+
+        run(key, created, loader);
+
+        return await(created);
+    }
+
+    // executor에서 조회하고 즉시 반환, 진행 중인 조회가 있으면 새로 실행하지 않음
+    public CompletableFuture<V> loadAsync(K key, Supplier<V> loader, Executor executor) {
+
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> run(key, created, loader));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+
+        return created;
+    }
+
+    private void run(K key, CompletableFuture<V> future, Supplier<V> loader) {
+
+        try {
+            future.complete(loader.get());
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
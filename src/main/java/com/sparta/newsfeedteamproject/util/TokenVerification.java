@@ -0,0 +1,50 @@
+package com.sparta.newsfeedteamproject.util;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+// 토큰 1회 검증 결과 (유효/만료/위조 상태와 Claims)
+@Getter
+public class TokenVerification {
+
+    public enum State {
+        VALID, EXPIRED, INVALID
+    }
+
+    private static final TokenVerification INVALID = new TokenVerification(State.INVALID, null);
+
+    private final State state;
+    // INVALID 인 경우 null, EXPIRED 인 경우에도 서명은 검증된 Claims
+    private final Claims claims;
+
+    private TokenVerification(State state, Claims claims) {
+        this.state = state;
+        this.claims = claims;
+    }
+
+    public static TokenVerification valid(Claims claims) {
+        return new TokenVerification(State.VALID, claims);
+    }
+
+    public static TokenVerification expired(Claims claims) {
+        return new TokenVerification(State.EXPIRED, claims);
+    }
+
+    public static TokenVerification invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return state == State.VALID;
+    }
+
+    public boolean isExpired() {
+        return state == State.EXPIRED;
+    }
+
+    public Date getExpiration() {
+        return claims == null ? null : claims.getExpiration();
+    }
+}
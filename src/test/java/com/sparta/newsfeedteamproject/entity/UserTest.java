@@ -18,7 +18,6 @@ class UserTest {
     String email;
     String userInfo;
     Status status;
-    String refreshToken;
     LocalDateTime statusModTime;
 
     @BeforeEach
@@ -30,12 +29,10 @@ class UserTest {
         email = "spartaclub@example.com";
         userInfo = "My name is Sparta.";
         status = Status.ACTIVATE;
-        refreshToken = "refreshToken123";
         statusModTime = LocalDateTime.now();
 
         user = new User(username, password, name, email, userInfo, status, statusModTime);
         user.setId(id);
-        user.setRefreshToken(refreshToken);
     }
 
     // Setter 테스트
@@ -50,7 +47,6 @@ class UserTest {
         user.setEmail(email);
         user.setUserInfo(userInfo);
         user.setStatus(status);
-        user.setRefreshToken(refreshToken);
         user.setStatusModTime(statusModTime);
 
         // then
@@ -61,7 +57,6 @@ class UserTest {
         assertEquals(email, user.getEmail(), "Email이 설정되지 못했습니다.");
         assertEquals(userInfo, user.getUserInfo(), "User info가 설정되지 못했습니다.");
         assertEquals(status, user.getStatus(), "Status가 설정되지 못했습니다.");
-        assertEquals(refreshToken, user.getRefreshToken(), "Refresh token이 설정되지 못했습니다.");
         assertEquals(statusModTime, user.getStatusModTime(), "Status modification time이 설정되지 못했습니다.");
     }
 
@@ -77,7 +72,6 @@ class UserTest {
         assertEquals("spartaclub@example.com", user.getEmail(), "Email이 반환되지 못했습니다.");
         assertEquals("My name is Sparta.", user.getUserInfo(), "User info가 반환되지 못했습니다.");
         assertEquals(Status.ACTIVATE, user.getStatus(), "Status가 반환되지 못했습니다.");
-        assertEquals("refreshToken123", user.getRefreshToken(), "Refresh token이 반환되지 못했습니다.");
         assertEquals(statusModTime, user.getStatusModTime(), "Status modification time이 반환되지 못했습니다.");
     }
 
@@ -98,20 +92,6 @@ class UserTest {
         assertEquals(statusModTime, user.getStatusModTime(), "Status modification time이 올바르게 설정되지 않았습니다.");
     }
 
-    // deleteRefreshToken 테스트
-    @Test
-    @DisplayName("Refresh Token 삭제 테스트")
-    void testDeleteRefreshToken() {
-        // given
-        user.setRefreshToken(refreshToken);
-
-        // when
-        user.deleteRefreshToken();
-
-        // then
-        assertEquals("", user.getRefreshToken(), "Refresh Token이 삭제되지 않았습니다.");
-    }
-
     // update 테스트
     @Test
     @DisplayName("update 테스트")
@@ -133,20 +113,4 @@ class UserTest {
 
     }
 
-    // updateRefreshToken 테스트
-    @Test
-    @DisplayName("Refresh Token 업데이트 테스트")
-    void testUpdateRefreshToken() {
-        // given
-        user.setRefreshToken(refreshToken);
-
-        String updateToken = "refreshToken456";
-
-        // when
-        user.updateRefreshToken(updateToken);
-
-        // then
-        assertEquals("refreshToken456", user.getRefreshToken(), "Refresh Token이 업데이트되지 않았습니다.");
-    }
-
 }
@@ -3,16 +3,21 @@ package com.sparta.newsfeedteamproject.mvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.newsfeedteamproject.config.SecurityConfig;
 import com.sparta.newsfeedteamproject.controller.CommentController;
+import com.sparta.newsfeedteamproject.controller.LikeController;
+import com.sparta.newsfeedteamproject.dto.LikeResDto;
+import com.sparta.newsfeedteamproject.dto.CursorResDto;
 import com.sparta.newsfeedteamproject.dto.MessageResDto;
 import com.sparta.newsfeedteamproject.dto.comment.CommentDelResDto;
 import com.sparta.newsfeedteamproject.dto.comment.CommentReqDto;
 import com.sparta.newsfeedteamproject.dto.comment.CommentResDto;
 import com.sparta.newsfeedteamproject.entity.Comment;
+import com.sparta.newsfeedteamproject.entity.Contents;
 import com.sparta.newsfeedteamproject.entity.Feed;
 import com.sparta.newsfeedteamproject.entity.Status;
 import com.sparta.newsfeedteamproject.entity.User;
 import com.sparta.newsfeedteamproject.security.UserDetailsImpl;
 import com.sparta.newsfeedteamproject.service.CommentService;
+import com.sparta.newsfeedteamproject.service.LikeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,18 +35,22 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.security.Principal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(
-        controllers = {CommentController.class},
+        controllers = {CommentController.class, LikeController.class},
         excludeFilters = {
                 @ComponentScan.Filter(
                         type = FilterType.ASSIGNABLE_TYPE,
@@ -63,6 +72,9 @@ public class CommentMvcTest {
     @MockBean
     CommentService commentService;
 
+    @MockBean
+    LikeService likeService;
+
     @BeforeEach
     public void setup() {
         mvc = MockMvcBuilders
@@ -179,6 +191,61 @@ public class CommentMvcTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("댓글 단건 조회 - 댓글 좋아요 이후 이전 ETag로 요청하면 200 응답")
+    void testGetCommentAfterLike() throws Exception {
+        // given
+        Long feedId = 1L;
+        Long commentId = 1L;
+        String eTag = "\"node-c1-0-3-0\"";
+        String likedETag = "\"node-c1-0-3-1\"";
+        MessageResDto<CommentResDto> response = new MessageResDto<>(200, "댓글 조회가 완료되었습니다!", mockCommentResDtoSetup(feedId, commentId));
+        MessageResDto<LikeResDto> likeResponse = new MessageResDto<>(200, "댓글을 좋아요하였습니다!", new LikeResDto(commentId, Contents.COMMENT));
+
+        // when
+        given(commentService.getCommentETag(feedId, commentId)).willReturn(eTag, likedETag);
+        given(commentService.getComment(anyLong(), anyLong())).willReturn(response);
+        given(likeService.likeComment(anyLong(), anyLong(), any(UserDetailsImpl.class))).willReturn(likeResponse);
+
+        // then
+        mvc.perform(get("/feeds/{feedId}/comments/{commentId}", feedId, commentId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag));
+
+        mvc.perform(post("/feeds/{feedId}/comments/{commentId}/like", feedId, commentId)
+                        .principal(mockPrincipal))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/feeds/{feedId}/comments/{commentId}", feedId, commentId)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", likedETag))
+                .andExpect(jsonPath("$.data.id").value(1L))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("댓글 목록 커서 조회")
+    void testGetComments() throws Exception {
+        // given
+        Long feedId = 1L;
+        String nextCursor = "nextCursor";
+        List<CommentResDto> comments = List.of(mockCommentResDtoSetup(feedId, 1L), mockCommentResDtoSetup(feedId, 2L));
+        MessageResDto<CursorResDto<CommentResDto>> response = new MessageResDto<>(200, "댓글 조회가 완료되었습니다!", new CursorResDto<>(comments, nextCursor));
+
+        // when
+        given(commentService.getComments(anyLong(), isNull(), anyInt())).willReturn(response);
+
+        // then
+        mvc.perform(get("/feeds/{feedId}/comments", feedId)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].id").value(1L))
+                .andExpect(jsonPath("$.data.items[1].id").value(2L))
+                .andExpect(jsonPath("$.data.nextCursor").value(nextCursor))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("댓글 수정")
     void testUpdateComment() throws Exception {
@@ -3,6 +3,7 @@ package com.sparta.newsfeedteamproject.mvc;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.newsfeedteamproject.config.SecurityConfig;
 import com.sparta.newsfeedteamproject.controller.FeedController;
+import com.sparta.newsfeedteamproject.dto.CursorResDto;
 import com.sparta.newsfeedteamproject.dto.MessageResDto;
 import com.sparta.newsfeedteamproject.dto.feed.FeedReqDto;
 import com.sparta.newsfeedteamproject.dto.feed.FeedResDto;
@@ -34,6 +35,8 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -154,6 +157,78 @@ public class FeedMvcTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("전체 게시글 수와 함께 조회")
+    void testGetAllFeedsWithTotal() throws Exception {
+        // given
+        List<FeedResDto> feedResDtoList = new ArrayList<>();
+        feedResDtoList.add(mockFeedResDtoSetup(1L));
+
+        MessageResDto<List<FeedResDto>> response = new MessageResDto<>(200, "게시물 조회가 완료되었습니다!", feedResDtoList);
+
+        // when
+        given(feedService.getTotalFeedCount()).willReturn(25L);
+        given(feedService.getFeedListETag("createdAt", 25L)).willReturn("\"l-25\"");
+        given(feedService.getAllFeeds(0, "createdAt", null, null)).willReturn(response);
+
+        // then
+        mvc.perform(get("/feeds/all")
+                        .param("withTotal", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "25"))
+                .andExpect(jsonPath("$.data[0].id").value(1L))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("전체 게시글 수 없이 조회 - COUNT 하지 않음")
+    void testGetAllFeedsWithoutTotal() throws Exception {
+        // given
+        List<FeedResDto> feedResDtoList = new ArrayList<>();
+        feedResDtoList.add(mockFeedResDtoSetup(1L));
+
+        MessageResDto<List<FeedResDto>> response = new MessageResDto<>(200, "게시물 조회가 완료되었습니다!", feedResDtoList);
+
+        // when
+        given(feedService.getAllFeeds(0, "createdAt", null, null)).willReturn(response);
+
+        // then
+        mvc.perform(get("/feeds/all"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Total-Count"))
+                .andDo(print());
+
+        verify(feedService, never()).getTotalFeedCount();
+    }
+
+    @Test
+    @DisplayName("커서 기반 게시글 조회")
+    void testGetAllFeedsByCursor() throws Exception {
+        // given
+        String sortBy = "createdAt";
+        String nextCursor = "nextCursor";
+
+        List<FeedResDto> feedResDtoList = new ArrayList<>();
+        feedResDtoList.add(mockFeedResDtoSetup(2L));
+        feedResDtoList.add(mockFeedResDtoSetup(1L));
+
+        MessageResDto<CursorResDto<FeedResDto>> response = new MessageResDto<>(200, "게시물 조회가 완료되었습니다!", new CursorResDto<>(feedResDtoList, nextCursor));
+
+        // when
+        given(feedService.getAllFeedsByCursor(anyString(), anyString())).willReturn(response);
+
+        // then
+        mvc.perform(get("/feeds/all")
+                        .param("cursor", "")
+                        .param("sortBy", sortBy))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items[0].id").value(2L))
+                .andExpect(jsonPath("$.data.items[1].id").value(1L))
+                .andExpect(jsonPath("$.data.nextCursor").value(nextCursor))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("단건 게시글 조회")
     void testGetFeed() throws Exception {
@@ -173,6 +248,46 @@ public class FeedMvcTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("단건 게시글 조회 - ETag 발급")
+    void testGetFeedETag() throws Exception {
+        // given
+        Long feedId = 1L;
+        String eTag = "\"node-f1-3-0\"";
+        MessageResDto<FeedResDto> response = new MessageResDto<>(200, "게시물 조회가 완료되었습니다!", mockFeedResDtoSetup(feedId));
+
+        // when
+        given(feedService.getFeedETag(feedId)).willReturn(eTag);
+        given(feedService.getFeed(anyLong())).willReturn(response);
+
+        // then
+        mvc.perform(get("/feeds/{feedId}", feedId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("단건 게시글 조회 - 변경이 없으면 게시물을 조회하지 않고 304 응답")
+    void testGetFeedNotModified() throws Exception {
+        // given
+        Long feedId = 1L;
+        String eTag = "\"node-f1-3-0\"";
+
+        // when
+        given(feedService.getFeedETag(feedId)).willReturn(eTag);
+
+        // then
+        mvc.perform(get("/feeds/{feedId}", feedId)
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""))
+                .andDo(print());
+
+        verify(feedService, never()).getFeed(anyLong());
+    }
+
     @Test
     @DisplayName("게시글 생성")
     void testCreateFeed() throws Exception {
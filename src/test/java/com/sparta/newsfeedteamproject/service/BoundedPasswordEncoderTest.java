@@ -0,0 +1,98 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.exception.TooManyRequestsException;
+import com.sparta.newsfeedteamproject.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoundedPasswordEncoderTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("비밀번호 해싱 - 전용 스레드에서 해싱 및 검증")
+    void testEncodeAndMatches() {
+        // given
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 10, 1, registry);
+
+        // when
+        String encoded = passwordEncoder.encode("Password123!");
+
+        // then
+        assertTrue(passwordEncoder.matches("Password123!", encoded), "비밀번호가 올바르게 검증되지 않았습니다.");
+        assertEquals(1L, registry.get("password.hash").tag("operation", "encode").timer().count(), "해싱 시간이 기록되지 않았습니다.");
+        assertEquals(1L, registry.get("password.hash").tag("operation", "matches").timer().count(), "검증 시간이 기록되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("비밀번호 해싱 - 대기열 초과 시 즉시 거부")
+    void testRejectWhenQueueIsFull() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(started, release), 1, 1, 3, registry);
+
+        ExecutorService requests = Executors.newFixedThreadPool(2);
+        requests.submit(() -> passwordEncoder.encode("running"));
+        assertTrue(started.await(5, TimeUnit.SECONDS), "해싱 작업이 시작되지 않았습니다.");
+        requests.submit(() -> passwordEncoder.encode("queued"));
+
+        while (registry.get("password.hash.queue").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        // when - then
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () -> passwordEncoder.encode("rejected"));
+        assertEquals(3L, exception.getRetryAfterSeconds(), "Retry-After 값이 올바르지 않습니다.");
+        assertEquals(1.0, registry.get("password.hash.rejected").counter().count(), "거부 횟수가 기록되지 않았습니다.");
+
+        release.countDown();
+        requests.shutdown();
+        assertTrue(requests.awaitTermination(5, TimeUnit.SECONDS), "대기 중인 해싱 작업이 완료되지 않았습니다.");
+    }
+
+    // 해싱 스레드를 점유한 상태를 만들기 위해 release 전까지 대기하는 인코더
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.sparta.newsfeedteamproject.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class ChangeWatermarkTest {
+
+    ChangeWatermark changeWatermark;
+
+    @BeforeEach
+    void setUp() {
+        changeWatermark = new ChangeWatermark(100);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 같은 ETag 발급")
+    void testSameETag() {
+        // when
+        String first = changeWatermark.eTag("f1", changeWatermark.feed(1L));
+        String second = changeWatermark.eTag("f1", changeWatermark.feed(1L));
+
+        // then
+        assertEquals(first, second, "변경이 없는데 ETag가 바뀌었습니다.");
+    }
+
+    @Test
+    @DisplayName("댓글 변경 - 게시물 ETag만 변경되고 목록 ETag는 유지")
+    void testDetailChanged() {
+        // given
+        long feed = changeWatermark.feed(1L);
+        long otherFeed = changeWatermark.feed(2L);
+        long list = changeWatermark.list();
+
+        // when
+        changeWatermark.onFeedChanged(new FeedChangedEvent(1L, FeedChangedEvent.Scope.DETAIL));
+
+        // then
+        assertNotEquals(feed, changeWatermark.feed(1L), "댓글이 변경된 게시물의 ETag가 바뀌지 않았습니다.");
+        assertEquals(otherFeed, changeWatermark.feed(2L), "다른 게시물의 ETag가 바뀌었습니다.");
+        assertEquals(list, changeWatermark.list(), "목록에 포함되지 않는 댓글 변경으로 목록 ETag가 바뀌었습니다.");
+    }
+
+    @Test
+    @DisplayName("다른 서버의 게시물 변경 - 게시물과 목록 ETag 변경")
+    void testFeedMessage() {
+        // given
+        long feed = changeWatermark.feed(1L);
+        long list = changeWatermark.list();
+
+        // when
+        changeWatermark.onFeedMessage(new DefaultMessage(FeedCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "FEED:1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertNotEquals(feed, changeWatermark.feed(1L), "다른 서버에서 변경된 게시물의 ETag가 바뀌지 않았습니다.");
+        assertNotEquals(list, changeWatermark.list(), "다른 서버에서 변경된 게시물이 포함된 목록의 ETag가 바뀌지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 발급한 ETag와 겹치지 않음")
+    void testNodeETag() {
+        // given
+        ChangeWatermark otherNode = new ChangeWatermark(100);
+
+        // when
+        String eTag = changeWatermark.eTag("f1", changeWatermark.feed(1L));
+        String otherETag = otherNode.eTag("f1", otherNode.feed(1L));
+
+        // then
+        assertNotEquals(eTag, otherETag, "다른 서버에서 발급한 ETag와 같습니다.");
+    }
+}
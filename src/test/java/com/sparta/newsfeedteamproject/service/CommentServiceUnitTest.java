@@ -1,8 +1,11 @@
 package com.sparta.newsfeedteamproject.service;
 
+import com.sparta.newsfeedteamproject.dto.MessageResDto;
 import com.sparta.newsfeedteamproject.dto.comment.CommentReqDto;
+import com.sparta.newsfeedteamproject.dto.comment.CommentResDto;
 import com.sparta.newsfeedteamproject.dto.feed.FeedReqDto;
 import com.sparta.newsfeedteamproject.entity.Comment;
+import com.sparta.newsfeedteamproject.entity.Contents;
 import com.sparta.newsfeedteamproject.entity.Feed;
 import com.sparta.newsfeedteamproject.entity.Status;
 import com.sparta.newsfeedteamproject.entity.User;
@@ -14,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -28,6 +32,12 @@ public class CommentServiceUnitTest {
 
     @Mock
     CommentRepository commentRepository;
+    @Mock
+    FeedService feedService;
+    @Mock
+    LikeCounter likeCounter;
+    @Spy
+    ChangeWatermark changeWatermark = new ChangeWatermark(100);
 
     @InjectMocks
     CommentService commentService;
@@ -96,34 +106,57 @@ public class CommentServiceUnitTest {
     }
 
     @Nested
-    @DisplayName("좋아요 기능")
-    class LikeTest {
+    @DisplayName("댓글 조회")
+    class GetCommentTest {
 
         @Test
-        @DisplayName("댓글 좋아요 추가")
-        void testIncreaseCommentLikes() {
+        @DisplayName("댓글 조회 - 아직 반영되지 않은 좋아요 수 포함")
+        void testGetCommentWithPendingLikes() {
             // given
-            given(commentRepository.findById(comment.getId())).willReturn(Optional.of(comment));
+            Long feedId = 1L;
+            Long commentId = 2L;
+            ReflectionTestUtils.setField(comment, "id", commentId);
+            ReflectionTestUtils.setField(comment, "likes", 3L);
+
+            given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
+            given(likeCounter.getPendingLikes(Contents.COMMENT, commentId)).willReturn(2L);
 
             // when
-            commentService.increaseCommentLikes(comment.getId());
+            MessageResDto<CommentResDto> resDto = commentService.getComment(feedId, commentId);
 
             // then
-            assertEquals(1L, comment.getLikes(), "좋아요가 올바르게 추가되지 않았습니다!");
+            assertEquals(5L, resDto.getData().getLikes(), "미반영 좋아요 수가 포함되지 않았습니다.");
         }
 
+        @Test
+        @DisplayName("댓글 단건 ETag - 댓글 좋아요 이후 변경")
+        void testGetCommentETagAfterLike() {
+            // given
+            Long feedId = 1L;
+            Long commentId = 2L;
+            given(commentRepository.findVersionById(feedId, commentId)).willReturn(Optional.of(0L));
+            given(likeCounter.getCommentLikesVersion(feedId)).willReturn(0L, 1L);
+
+            // when
+            String eTag = commentService.getCommentETag(feedId, commentId);
+            String likedETag = commentService.getCommentETag(feedId, commentId);
+
+            // then
+            assertNotEquals(eTag, likedETag, "댓글 좋아요 이후 댓글 ETag가 바뀌지 않았습니다.");
+        }
 
         @Test
-        @DisplayName("댓글 좋아요 삭제")
-        void testDecreaseCommentLikes() {
+        @DisplayName("댓글 목록 ETag - 댓글 좋아요 반영 이후 변경")
+        void testGetCommentsETagAfterFlush() {
             // given
-            given(commentRepository.findById(comment.getId())).willReturn(Optional.of(comment));
+            Long feedId = 1L;
+            String eTag = commentService.getCommentsETag(feedId);
 
             // when
-            commentService.decreaseCommentLikes(comment.getId());
+            changeWatermark.onFeedChanged(new FeedChangedEvent(feedId, FeedChangedEvent.Scope.DETAIL));
 
             // then
-            assertEquals(-1L, comment.getLikes(), "좋아요가 올바르게 삭제되지 않았습니다!");
+            assertNotEquals(eTag, commentService.getCommentsETag(feedId), "댓글 좋아요 반영 이후 댓글 목록 ETag가 바뀌지 않았습니다.");
         }
     }
 }
@@ -0,0 +1,52 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.util.Cursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CursorTest {
+
+    @Test
+    @DisplayName("커서 - 생성일자 값 복원")
+    void testCreatedAtValue() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123000000);
+        String encoded = Cursor.of("createdAt", createdAt, 7L).encode();
+
+        // when
+        Cursor decoded = Cursor.decode(encoded, "createdAt");
+
+        // then
+        assertEquals(createdAt, decoded.getCreatedAtValue(), "생성일자가 올바르게 복원되지 않았습니다.");
+        assertEquals(7L, decoded.getId(), "id가 올바르게 복원되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("커서 - 좋아요 수 값 복원")
+    void testLongValue() {
+        // given
+        String encoded = Cursor.of("likes", 42L, 7L).encode();
+
+        // when
+        Cursor decoded = Cursor.decode(encoded, "likes");
+
+        // then
+        assertEquals(42L, decoded.getLongValue(), "좋아요 수가 올바르게 복원되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("커서 - 정렬 값 형식이 다르면 잘못된 커서")
+    void testInvalidValue() {
+        // given
+        Cursor decoded = Cursor.decode(Cursor.of("createdAt", "not-a-date", 7L).encode(), "createdAt");
+
+        // when - then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, decoded::getCreatedAtValue);
+        assertEquals("유효하지 않은 커서입니다.", exception.getMessage(), "올바른 예외가 발생되지 않았습니다.");
+    }
+}
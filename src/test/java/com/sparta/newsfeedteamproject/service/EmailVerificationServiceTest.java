@@ -0,0 +1,155 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.exception.TooManyRequestsException;
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailVerificationServiceTest {
+
+    @Mock
+    RedisUtil redisUtil;
+    @Mock
+    VerificationMailSender verificationMailSender;
+
+    EmailVerificationService emailVerificationService;
+
+    String email = "sparta@email.com";
+    String codeKey = "signup:code:" + email;
+    String attemptKey = "signup:attempt:" + email;
+
+    @BeforeEach
+    void setUp() {
+        emailVerificationService = new EmailVerificationService(redisUtil, verificationMailSender, 180, 5, 60, 10, 3600);
+    }
+
+    @Test
+    @DisplayName("인증번호 확인 - 일치하면 인증번호와 시도 횟수 삭제")
+    void testVerifyCode() {
+        // given
+        given(redisUtil.getData(codeKey)).willReturn("123456");
+        given(redisUtil.increaseData(attemptKey, 180)).willReturn(1L);
+
+        // when
+        boolean verified = emailVerificationService.verifyCode(email, "123456");
+
+        // then
+        assertTrue(verified, "인증번호가 확인되지 않았습니다.");
+        verify(redisUtil).deleteData(List.of(codeKey, attemptKey));
+    }
+
+    @Test
+    @DisplayName("인증번호 확인 - 틀린 경우 인증번호 유지")
+    void testVerifyCodeMismatch() {
+        // given
+        given(redisUtil.getData(codeKey)).willReturn("123456");
+        given(redisUtil.increaseData(attemptKey, 180)).willReturn(1L);
+
+        // when
+        boolean verified = emailVerificationService.verifyCode(email, "000000");
+
+        // then
+        assertFalse(verified, "틀린 인증번호가 확인되었습니다.");
+        verify(redisUtil, never()).deleteData(List.of(codeKey, attemptKey));
+    }
+
+    @Test
+    @DisplayName("인증번호 확인 - 시도 횟수를 모두 틀리면 인증번호를 삭제하고 429")
+    void testVerifyCodeTooManyAttempts() {
+        // given
+        given(redisUtil.getData(codeKey)).willReturn("123456");
+        given(redisUtil.increaseData(attemptKey, 180)).willReturn(5L);
+
+        given(redisUtil.getExpire("signup:resend:email:" + email)).willReturn(30L);
+
+        // when - then
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> emailVerificationService.verifyCode(email, "000000"));
+        assertEquals(30L, exception.getRetryAfterSeconds(), "재시도 대기 시간이 재발송 가능 시점과 다릅니다.");
+        verify(redisUtil).deleteData(List.of(codeKey, attemptKey));
+    }
+
+    @Test
+    @DisplayName("인증번호 확인 - 시도 횟수 초과 이후에는 맞는 인증번호도 비교하지 않음")
+    void testVerifyCodeAfterMaxAttempts() {
+        // given
+        given(redisUtil.getData(codeKey)).willReturn("123456");
+        given(redisUtil.increaseData(attemptKey, 180)).willReturn(6L);
+
+        // when - then
+        assertThrows(TooManyRequestsException.class, () -> emailVerificationService.verifyCode(email, "123456"));
+    }
+
+    @Test
+    @DisplayName("인증번호 확인 - 인증번호가 없으면 시도 횟수를 증가시키지 않음")
+    void testVerifyCodeExpired() {
+        // given
+        given(redisUtil.getData(codeKey)).willReturn(null);
+
+        // when
+        boolean verified = emailVerificationService.verifyCode(email, "123456");
+
+        // then
+        assertFalse(verified, "만료된 인증번호가 확인되었습니다.");
+        verify(redisUtil, never()).increaseData(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("인증번호 재발송 - 재발송 간격 이내면 429")
+    void testResendCooldown() {
+        // given
+        given(redisUtil.increaseData("signup:resend:ip:127.0.0.1", 3600)).willReturn(1L);
+        given(redisUtil.setDataIfAbsent("signup:resend:email:" + email, "1", 60)).willReturn(false);
+        given(redisUtil.getExpire("signup:resend:email:" + email)).willReturn(42L);
+
+        // when - then
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> emailVerificationService.checkResendAllowed(email, "127.0.0.1"));
+        assertEquals(42L, exception.getRetryAfterSeconds(), "재시도 대기 시간이 남은 재발송 간격과 다릅니다.");
+    }
+
+    @Test
+    @DisplayName("인증번호 재발송 - IP별 요청 수를 넘으면 이메일과 관계없이 429")
+    void testResendIpLimit() {
+        // given
+        given(redisUtil.increaseData("signup:resend:ip:127.0.0.1", 3600)).willReturn(11L);
+        given(redisUtil.getExpire("signup:resend:ip:127.0.0.1")).willReturn(1200L);
+
+        // when - then
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> emailVerificationService.checkResendAllowed(email, "127.0.0.1"));
+        assertEquals(1200L, exception.getRetryAfterSeconds(), "재시도 대기 시간이 남은 제한 시간과 다릅니다.");
+        verify(redisUtil, never()).setDataIfAbsent(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("회원가입 완료 - 인증번호 발송 실패 시 예외를 전파하지 않음")
+    void testSignupCompletedSendFail() {
+        // given
+        willThrow(new RedisConnectionFailureException("Redis 연결 실패")).given(redisUtil).setDataExpire(anyString(), anyString(), anyLong());
+
+        // when - then
+        assertDoesNotThrow(() -> emailVerificationService.onSignupCompleted(new SignupCompletedEvent(email)));
+        verify(verificationMailSender, never()).enqueue(anyString(), anyString());
+    }
+}
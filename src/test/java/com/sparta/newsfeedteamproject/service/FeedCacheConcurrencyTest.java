@@ -0,0 +1,152 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.newsfeedteamproject.dto.feed.FeedReqDto;
+import com.sparta.newsfeedteamproject.dto.feed.FeedResDto;
+import com.sparta.newsfeedteamproject.entity.Feed;
+import com.sparta.newsfeedteamproject.entity.Status;
+import com.sparta.newsfeedteamproject.entity.User;
+import com.sparta.newsfeedteamproject.repository.CommentRepository;
+import com.sparta.newsfeedteamproject.repository.FeedRepository;
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 캐시가 비어 있는 인기 게시물에 요청이 몰려도 DB 조회는 한 번만 실행되는지 확인
+@ExtendWith(MockitoExtension.class)
+public class FeedCacheConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 500;
+    // 다른 요청이 모두 도착할 때까지 첫 조회가 끝나지 않도록 지연
+    private static final long QUERY_DELAY_MILLIS = 200;
+
+    @Mock
+    FeedRepository feedRepository;
+    @Mock
+    CommentRepository commentRepository;
+    @Mock
+    LikeCounter likeCounter;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    RedisUtil redisUtil;
+    @Mock
+    HotFeedRanking hotFeedRanking;
+
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    FeedCache feedCache;
+    FeedService feedService;
+    ExecutorService executorService;
+    Feed feed;
+
+    @BeforeEach
+    void setUp() {
+        feedCache = new FeedCache(redisUtil, objectMapper, true, 60, 10, 5, 1000, 10000, 1);
+        feedService = new FeedService(feedRepository, commentRepository, likeCounter, feedCache, eventPublisher,
+                new ChangeWatermark(100), hotFeedRanking);
+        executorService = Executors.newFixedThreadPool(REQUEST_COUNT);
+
+        FeedReqDto feedReqDto = new FeedReqDto();
+        ReflectionTestUtils.setField(feedReqDto, "contents", "Viral Feed");
+        User user = new User("spartaclub", "Password123!", "Sparta Club", "sparta@email.com",
+                "My name is Sparta Club.", Status.ACTIVATE, LocalDateTime.now());
+        feed = new Feed(feedReqDto, user);
+        ReflectionTestUtils.setField(feed, "id", 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        feedCache.shutdown();
+    }
+
+    private List<Future<?>> runConcurrently(Runnable request) throws InterruptedException {
+
+        CountDownLatch ready = new CountDownLatch(REQUEST_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                ready.countDown();
+                start.await();
+                request.run();
+                return null;
+            }));
+        }
+
+        ready.await();
+        start.countDown();
+
+        return futures;
+    }
+
+    @Test
+    @DisplayName("게시물 단건 조회 - 동시에 500건의 캐시 미스가 발생해도 DB 조회는 한 번")
+    void testConcurrentFeedMiss() throws Exception {
+        // given
+        given(feedRepository.findById(1L)).willAnswer(invocation -> {
+            Thread.sleep(QUERY_DELAY_MILLIS);
+            return Optional.of(feed);
+        });
+        given(commentRepository.findCommentResDtosByFeedId(1L)).willReturn(List.of());
+
+        // when
+        List<Future<?>> futures = runConcurrently(() ->
+                assertEquals("Viral Feed", feedService.getFeed(1L).getData().getContents(), "조회한 게시물이 올바르지 않습니다."));
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        // then
+        verify(feedRepository, times(1)).findById(1L);
+        verify(commentRepository, times(1)).findCommentResDtosByFeedId(1L);
+    }
+
+    @Test
+    @DisplayName("게시물 목록 조회 - 동시에 500건의 캐시 미스가 발생해도 DB 조회는 한 번")
+    void testConcurrentPageMiss() throws Exception {
+        // given
+        given(feedRepository.findSliceBy(any(Pageable.class))).willAnswer(invocation -> {
+            Thread.sleep(QUERY_DELAY_MILLIS);
+            return new SliceImpl<>(List.of(new FeedResDto(feed)));
+        });
+
+        // when
+        List<Future<?>> futures = runConcurrently(() ->
+                assertEquals(1, feedService.getAllFeeds(0, "createdAt", null, null).getData().size(), "조회한 목록이 올바르지 않습니다."));
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        // then
+        verify(feedRepository, times(1)).findSliceBy(any(Pageable.class));
+    }
+}
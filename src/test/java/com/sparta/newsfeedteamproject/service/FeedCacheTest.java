@@ -0,0 +1,168 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.newsfeedteamproject.dto.feed.FeedResDto;
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class FeedCacheTest {
+
+    @Mock
+    RedisUtil redisUtil;
+
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    FeedCache feedCache;
+    AtomicInteger loadCount = new AtomicInteger();
+
+    FeedCache.PageKey firstPage = new FeedCache.PageKey(0, "createdAt", null, null);
+    FeedCache.PageKey secondPage = new FeedCache.PageKey(1, "createdAt", null, null);
+
+    @BeforeEach
+    void setUp() {
+        feedCache = new FeedCache(redisUtil, objectMapper, true, 60, 10, 5, 1000, 10000, 1);
+    }
+
+    private FeedResDto feed(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return new FeedResDto(id, "spartaclub", "Test Feed " + id, 0L, now, now);
+    }
+
+    private List<FeedResDto> loadPage(Long feedId) {
+        loadCount.incrementAndGet();
+        return List.of(feed(feedId));
+    }
+
+    @Test
+    @DisplayName("게시물 목록 캐시 - 두 번째 조회는 L1에서 반환")
+    void testLocalHit() {
+        // when
+        feedCache.getPage(firstPage, () -> loadPage(1L));
+        List<FeedResDto> feeds = feedCache.getPage(firstPage, () -> loadPage(1L));
+
+        // then
+        assertEquals(1, loadCount.get(), "L1에 저장된 목록을 다시 조회하였습니다.");
+        assertEquals(1L, feeds.get(0).getId(), "캐시된 목록이 올바르지 않습니다.");
+        verify(redisUtil, times(1)).getData(anyString());
+    }
+
+    @Test
+    @DisplayName("게시물 목록 캐시 - 다른 서버가 저장한 L2 값을 DB 조회 없이 사용")
+    void testRedisHit() throws Exception {
+        // given
+        given(redisUtil.getData("feed:cache:page:createdAt:0:null:null")).willReturn(objectMapper.writeValueAsString(List.of(feed(1L))));
+
+        // when
+        List<FeedResDto> feeds = feedCache.getPage(firstPage, () -> loadPage(1L));
+
+        // then
+        assertEquals(0, loadCount.get(), "L2에 저장된 목록이 있는데 DB에서 조회하였습니다.");
+        assertEquals("Test Feed 1", feeds.get(0).getContents(), "L2에서 조회한 목록이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("게시물 캐시 - 반환된 값을 수정해도 캐시에 영향 없음")
+    void testReturnsCopy() {
+        // given
+        FeedCache.DetailKey key = new FeedCache.DetailKey(1L, null);
+        feedCache.getFeed(key, () -> feed(1L)).addLikes(5L);
+
+        // when
+        FeedResDto cached = feedCache.getFeed(key, () -> feed(1L));
+
+        // then
+        assertEquals(0L, cached.getLikes(), "조회 시 더한 좋아요 수가 캐시에 반영되었습니다.");
+    }
+
+    @Test
+    @DisplayName("게시물 변경 - 해당 게시물이 포함된 목록만 삭제 후 다른 서버에 전파")
+    void testEvictFeed() {
+        // given
+        feedCache.getPage(firstPage, () -> loadPage(1L));
+        feedCache.getPage(secondPage, () -> loadPage(2L));
+        given(redisUtil.getSetMembers("feed:cache:pages:1")).willReturn(Set.of("feed:cache:page:createdAt:0:null:null"));
+
+        // when
+        feedCache.onFeedChanged(new FeedChangedEvent(1L, FeedChangedEvent.Scope.FEED));
+        feedCache.getPage(firstPage, () -> loadPage(1L));
+        feedCache.getPage(secondPage, () -> loadPage(2L));
+
+        // then
+        assertEquals(3, loadCount.get(), "변경된 게시물이 포함된 목록만 다시 조회되어야 합니다.");
+        verify(redisUtil).deleteData(List.of("feed:cache:detail:1", "feed:cache:page:createdAt:0:null:null", "feed:cache:pages:1"));
+        verify(redisUtil).publish(FeedCache.CHANNEL, "FEED:1");
+    }
+
+    @Test
+    @DisplayName("다른 서버의 게시물 변경 - L1 삭제")
+    void testOnMessage() {
+        // given
+        FeedCache.DetailKey key = new FeedCache.DetailKey(1L, 10);
+        feedCache.getFeed(key, () -> {
+            loadCount.incrementAndGet();
+            return feed(1L);
+        });
+
+        // when
+        feedCache.onMessage(new DefaultMessage(FeedCache.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "DETAIL:1".getBytes(StandardCharsets.UTF_8)), null);
+        feedCache.getFeed(key, () -> {
+            loadCount.incrementAndGet();
+            return feed(1L);
+        });
+
+        // then
+        assertEquals(2, loadCount.get(), "다른 서버에서 변경된 게시물이 L1에서 삭제되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("게시물 캐시 - 갱신 시점이 지나면 이전 값을 반환하고 백그라운드에서 다시 조회")
+    void testStaleWhileRevalidate() throws Exception {
+        // given
+        FeedCache refreshingCache = new FeedCache(redisUtil, objectMapper, true, 60, 10, 0, 1000, 10000, 1);
+        FeedCache.DetailKey key = new FeedCache.DetailKey(1L, null);
+        CountDownLatch refreshed = new CountDownLatch(1);
+        refreshingCache.getFeed(key, () -> feed(1L));
+
+        // when
+        FeedResDto stale = refreshingCache.getFeed(key, () -> {
+            refreshed.countDown();
+            return new FeedResDto(1L, "spartaclub", "Updated Feed", 0L, LocalDateTime.now(), LocalDateTime.now());
+        });
+
+        // then
+        assertEquals("Test Feed 1", stale.getContents(), "갱신 중에 이전 값을 반환하지 않았습니다.");
+        assertTrue(refreshed.await(5, TimeUnit.SECONDS), "백그라운드에서 다시 조회하지 않았습니다.");
+
+        String contents = stale.getContents();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!"Updated Feed".equals(contents) && System.nanoTime() < deadline) {
+            contents = refreshingCache.getFeed(key, () -> feed(1L)).getContents();
+        }
+        assertEquals("Updated Feed", contents, "다시 조회한 값이 캐시에 반영되지 않았습니다.");
+
+        refreshingCache.shutdown();
+    }
+}
@@ -0,0 +1,155 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.dto.feed.FeedReqDto;
+import com.sparta.newsfeedteamproject.entity.Comment;
+import com.sparta.newsfeedteamproject.entity.Contents;
+import com.sparta.newsfeedteamproject.entity.Feed;
+import com.sparta.newsfeedteamproject.entity.User;
+import com.sparta.newsfeedteamproject.repository.CommentRepository;
+import com.sparta.newsfeedteamproject.repository.FeedRepository;
+import com.sparta.newsfeedteamproject.repository.LikeRepository;
+import com.sparta.newsfeedteamproject.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class FeedDeleteBenchmarkTest {
+
+    private static final int LIKE_COUNT = 10_000;
+    private static final int COMMENT_COUNT = 1_000;
+    private static final String USERNAME_PREFIX = "bench_user_";
+
+    @Autowired
+    FeedService feedService;
+    @Autowired
+    FeedPurger feedPurger;
+    @Autowired
+    FeedRepository feedRepository;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    LikeRepository likeRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    List<Long> userIds;
+    User writer;
+
+    @BeforeAll
+    void setUpUsers() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>();
+
+        for (int i = 0; i < LIKE_COUNT; i++) {
+            args.add(new Object[]{USERNAME_PREFIX + i, "Password123!", "Bench User", USERNAME_PREFIX + i + "@email.com", "ACTIVATE", now, now, now});
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, password, name, email, status, status_mod_time, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", args);
+
+        userIds = jdbcTemplate.queryForList("SELECT id FROM users WHERE username LIKE ? ORDER BY id", Long.class, USERNAME_PREFIX + "%");
+        writer = userRepository.findById(userIds.get(0)).orElseThrow();
+    }
+
+    @AfterAll
+    void tearDownUsers() {
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE ?", USERNAME_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("게시물 삭제 성능 비교 - 건별 삭제 vs 일괄 삭제")
+    void benchmarkDeleteFeed() throws InterruptedException {
+        // given
+        Long legacyFeedId = seedFeed();
+        Long bulkFeedId = seedFeed();
+
+        // when
+        long legacyMillis = measure(() -> transactionTemplate.executeWithoutResult(status -> deleteFeedOneByOne(legacyFeedId)));
+        long requestMillis = measure(() -> feedService.deleteFeed(bulkFeedId, writer));
+        long purgeStart = System.nanoTime();
+        boolean purged = feedPurger.purgeFeed(bulkFeedId);
+        long purgeMillis = (System.nanoTime() - purgeStart) / 1_000_000;
+
+        System.out.printf("[benchmark] 좋아요 %d개, 댓글 %d개 게시물 삭제 - 건별 삭제 : %dms, 삭제 요청 응답 : %dms, chunk 단위 정리 : %dms%n",
+                LIKE_COUNT, COMMENT_COUNT, legacyMillis, requestMillis, purgeMillis);
+
+        // then
+        assertTrue(purged, "삭제 요청된 게시물이 정리되지 않았습니다.");
+        assertFalse(feedRepository.findDeletedFeedIds(Integer.MAX_VALUE).contains(bulkFeedId), "게시물이 삭제되지 않았습니다.");
+        assertEquals(0L, likeRepository.countByContentsIdAndContents(bulkFeedId, Contents.FEED), "게시물 좋아요가 삭제되지 않았습니다.");
+        assertEquals(0, commentRepository.findCommentIdsByFeedId(bulkFeedId, 1).size(), "댓글이 삭제되지 않았습니다.");
+    }
+
+    // 게시물 1개에 사용자별 좋아요 LIKE_COUNT개, 댓글 COMMENT_COUNT개와 댓글마다 좋아요 1개 생성
+    private Long seedFeed() {
+        FeedReqDto feedReqDto = new FeedReqDto();
+        ReflectionTestUtils.setField(feedReqDto, "contents", "Benchmark Feed");
+        Long feedId = feedRepository.save(new Feed(feedReqDto, writer)).getId();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> commentArgs = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            commentArgs.add(new Object[]{"Benchmark Comment " + i, 1L, feedId, writer.getId(), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comment (contents, likes, feed_id, user_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?)", commentArgs);
+
+        List<Long> commentIds = jdbcTemplate.queryForList("SELECT id FROM comment WHERE feed_id = ?", Long.class, feedId);
+        List<Object[]> likeArgs = new ArrayList<>();
+        for (Long userId : userIds) {
+            likeArgs.add(new Object[]{userId, Contents.FEED.name(), feedId, now, now});
+        }
+        for (Long commentId : commentIds) {
+            likeArgs.add(new Object[]{writer.getId(), Contents.COMMENT.name(), commentId, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO likes (user_id, contents_type, contents_id, created_at, modified_at) VALUES (?, ?, ?, ?, ?)", likeArgs);
+
+        jdbcTemplate.update("UPDATE NewsFeed SET likes = ? WHERE id = ?", LIKE_COUNT, feedId);
+
+        return feedId;
+    }
+
+    // 일괄 삭제 적용 이전의 좋아요, 댓글 건별 삭제 방식
+    private void deleteFeedOneByOne(Long feedId) {
+        likeRepository.findAllByContentsIdAndContents(feedId, Contents.FEED)
+                .ifPresent(likes -> likes.forEach(like -> likeRepository.delete(like)));
+
+        List<Comment> commentList = commentRepository.findAllByFeedId(feedId);
+
+        commentList.forEach(comment -> likeRepository.findAllByContentsIdAndContents(comment.getId(), Contents.COMMENT)
+                .ifPresent(likes -> likes.forEach(like -> likeRepository.delete(like))));
+        commentList.forEach(comment -> commentRepository.delete(comment));
+
+        feedRepository.delete(feedRepository.findById(feedId).orElseThrow());
+    }
+
+    private long measure(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
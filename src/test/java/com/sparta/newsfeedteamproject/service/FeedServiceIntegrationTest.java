@@ -1,13 +1,21 @@
 package com.sparta.newsfeedteamproject.service;
 
 import com.sparta.newsfeedteamproject.dto.MessageResDto;
+import com.sparta.newsfeedteamproject.dto.comment.CommentReqDto;
 import com.sparta.newsfeedteamproject.dto.feed.FeedReqDto;
 import com.sparta.newsfeedteamproject.dto.feed.FeedResDto;
+import com.sparta.newsfeedteamproject.entity.Comment;
 import com.sparta.newsfeedteamproject.entity.Feed;
 import com.sparta.newsfeedteamproject.entity.Status;
 import com.sparta.newsfeedteamproject.entity.User;
+import com.sparta.newsfeedteamproject.repository.CommentRepository;
 import com.sparta.newsfeedteamproject.repository.FeedRepository;
 import com.sparta.newsfeedteamproject.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -20,7 +28,7 @@ import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class FeedServiceIntegrationTest {
@@ -31,6 +39,14 @@ public class FeedServiceIntegrationTest {
     UserRepository userRepository;
     @Autowired
     FeedRepository feedRepository;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    FeedPurger feedPurger;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @PersistenceContext
+    EntityManager entityManager;
 
     User user;
 
@@ -150,6 +166,30 @@ public class FeedServiceIntegrationTest {
         assertEquals(secondTestFeed.getContents(), foundFeedResDtoList.get(0).getContents(), "feed 내용이 올바르게 조회되지 않았습니다.");
     }
 
+    @Test
+    @DisplayName("모든 게시글 조회 - 단일 쿼리 및 엔티티 미생성")
+    @Transactional
+    void testGetAllFeedsQueryCount() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            feedRepository.save(setFeed("Test Feed " + i));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        MessageResDto<List<FeedResDto>> messageResDto = feedService.getAllFeeds(0, "createdAt", null, null);
+
+        // then
+        assertEquals(10, messageResDto.getData().size(), "모든 feed가 올바르게 조회되지 않았습니다.");
+        assertEquals(1L, statistics.getPrepareStatementCount(), "COUNT 쿼리 또는 작성자 추가 조회가 발생하였습니다.");
+        assertEquals(0L, statistics.getEntityLoadCount(), "목록 조회 시 엔티티가 생성되었습니다.");
+    }
+
     @Test
     @DisplayName("단건 게시글 조회")
     @Transactional
@@ -168,6 +208,34 @@ public class FeedServiceIntegrationTest {
         assertEquals(contents, foundFeedResDto.getContents(), "조회할 feed가 올바르게 조회되지 않았습니다.");
     }
 
+    @Test
+    @DisplayName("단건 게시글 조회 - 댓글 수와 관계없이 일정한 쿼리 수")
+    @Transactional
+    void testGetFeedQueryCount() {
+        // given
+        Feed testFeed = setFeed("Test Feed");
+        feedRepository.save(testFeed);
+
+        for (int i = 0; i < 20; i++) {
+            CommentReqDto commentReqDto = new CommentReqDto();
+            ReflectionTestUtils.setField(commentReqDto, "contents", "Test Comment " + i);
+            commentRepository.save(new Comment(commentReqDto, testFeed, user, 0L));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        MessageResDto<FeedResDto> messageResDto = feedService.getFeed(testFeed.getId());
+
+        // then
+        assertEquals(20, messageResDto.getData().getComments().size(), "댓글이 올바르게 조회되지 않았습니다.");
+        assertEquals(2L, statistics.getPrepareStatementCount(), "댓글 작성자 조회 시 추가 쿼리가 발생하였습니다.");
+    }
+
     @Nested
     @DisplayName("게시글 삭제")
     class DeleteFeedTest {
@@ -186,6 +254,31 @@ public class FeedServiceIntegrationTest {
             assertEquals("게시물 삭제가 완료되었습니다!", messageResDto.getMessage(), "feed가 올바르게 삭제되지 않았습니다.");
         }
 
+        @Test
+        @DisplayName("게시글 삭제 - 조회 제외 후 댓글과 함께 정리")
+        @Transactional
+        void deleteFeedPurge() throws InterruptedException {
+            // given
+            Feed testFeed = setFeed("Test Feed");
+            feedRepository.save(testFeed);
+
+            CommentReqDto commentReqDto = new CommentReqDto();
+            ReflectionTestUtils.setField(commentReqDto, "contents", "Test Comment");
+            commentRepository.save(new Comment(commentReqDto, testFeed, user, 0L));
+
+            // when
+            feedService.deleteFeed(testFeed.getId(), user);
+            entityManager.flush();
+
+            // then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> feedService.findFeed(testFeed.getId()));
+            assertEquals("해당 요소가 존재하지 않습니다.", exception.getMessage(), "삭제 요청된 feed가 조회되었습니다.");
+
+            assertTrue(feedPurger.purgeFeed(testFeed.getId()), "삭제 요청된 feed가 정리되지 않았습니다.");
+            assertFalse(feedRepository.findDeletedFeedIds(Integer.MAX_VALUE).contains(testFeed.getId()), "feed가 실제로 삭제되지 않았습니다.");
+            assertTrue(commentRepository.findCommentIdsByFeedId(testFeed.getId(), 10).isEmpty(), "feed의 댓글이 삭제되지 않았습니다.");
+        }
+
         @Test
         @DisplayName("게시글 삭제 - 실패")
         @Transactional
@@ -1,9 +1,13 @@
 package com.sparta.newsfeedteamproject.service;
 
+import com.sparta.newsfeedteamproject.dto.MessageResDto;
 import com.sparta.newsfeedteamproject.dto.feed.FeedReqDto;
+import com.sparta.newsfeedteamproject.dto.feed.FeedResDto;
+import com.sparta.newsfeedteamproject.entity.Contents;
 import com.sparta.newsfeedteamproject.entity.Feed;
 import com.sparta.newsfeedteamproject.entity.Status;
 import com.sparta.newsfeedteamproject.entity.User;
+import com.sparta.newsfeedteamproject.repository.CommentRepository;
 import com.sparta.newsfeedteamproject.repository.FeedRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,20 +17,42 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.lang.reflect.Field;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class FeedServiceUnitTest {
 
     @Mock
     FeedRepository feedRepository;
+    @Mock
+    CommentRepository commentRepository;
+    @Mock
+    LikeCounter likeCounter;
+    @Mock
+    FeedCache feedCache;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Mock
+    ChangeWatermark changeWatermark;
+    @Mock
+    HotFeedRanking hotFeedRanking;
 
     @InjectMocks
     FeedService feedService;
@@ -87,34 +113,104 @@ public class FeedServiceUnitTest {
     }
 
     @Nested
-    @DisplayName("좋아요 기능")
-    class LikeTest {
+    @DisplayName("게시글 목록 조회")
+    class GetAllFeedsTest {
+
+        @BeforeEach
+        void beforeGetAllFeedsTest() {
+            // 캐시에 없는 경우처럼 바로 조회 함수를 실행
+            given(feedCache.getPage(any(FeedCache.PageKey.class), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<List<FeedResDto>>>getArgument(1).get());
+        }
 
         @Test
-        @DisplayName("게시글 좋아요 추가")
-        void testIncreaseFeedLikes() {
+        @DisplayName("게시글 목록 조회 - COUNT 없이 Slice로 조회")
+        void testGetAllFeedsSlice() {
             // given
-            given(feedRepository.findById(feed.getId())).willReturn(Optional.of(feed));
+            PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+            FeedResDto feedResDto = new FeedResDto(1L, username, contents, 0L, LocalDateTime.now(), LocalDateTime.now());
+            given(feedRepository.findSliceBy(pageable)).willReturn(new SliceImpl<>(List.of(feedResDto), pageable, true));
 
             // when
-            feedService.increaseFeedLikes(feed.getId());
+            MessageResDto<List<FeedResDto>> response = feedService.getAllFeeds(0, "createdAt", null, null);
 
             // then
-            assertEquals(1L, feed.getLikes(), "좋아요가 올바르게 추가되지 않았습니다!");
+            assertEquals(1, response.getData().size(), "게시글 목록이 올바르게 조회되지 않았습니다.");
+            verify(feedRepository, never()).count();
         }
 
+        @Test
+        @DisplayName("게시글 목록 조회 - 기간 조회도 Slice로 조회")
+        void testGetAllFeedsBetweenSlice() {
+            // given
+            LocalDate date = LocalDate.of(2024, 5, 1);
+            PageRequest pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "likes", "id"));
+            given(feedRepository.findSliceByCreatedAtBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay(), pageable))
+                    .willReturn(new SliceImpl<>(List.of(), pageable, false));
+
+            // when
+            MessageResDto<List<FeedResDto>> response = feedService.getAllFeeds(0, "likes", date, date);
+
+            // then
+            assertNull(response.getData(), "빈 목록이 올바르게 반환되지 않았습니다.");
+            verify(feedRepository, never()).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("전체 게시글 수")
+    class TotalFeedCountTest {
+
+        @Test
+        @DisplayName("전체 게시글 수 - 집계 전에는 null")
+        void testGetTotalFeedCountBeforeRefresh() {
+            // when - then
+            assertNull(feedService.getTotalFeedCount(), "집계 전 게시글 수가 null이 아닙니다.");
+        }
 
         @Test
-        @DisplayName("게시글 좋아요 삭제")
-        void testDecreaseFeedLikes() {
+        @DisplayName("전체 게시글 수 - 주기적으로 집계한 값 반환")
+        void testRefreshTotalFeedCount() {
             // given
-            given(feedRepository.findById(feed.getId())).willReturn(Optional.of(feed));
+            given(feedRepository.count()).willReturn(3L, 4L);
+
+            // when
+            feedService.refreshTotalFeedCount();
+            Long first = feedService.getTotalFeedCount();
+            feedService.refreshTotalFeedCount();
+
+            // then
+            assertEquals(3L, first, "집계한 게시글 수가 올바르지 않습니다.");
+            assertEquals(4L, feedService.getTotalFeedCount(), "갱신된 게시글 수가 반환되지 않았습니다.");
+        }
+
+        @Test
+        @DisplayName("전체 게시글 수 - 집계 실패 시 이전 값 유지")
+        void testRefreshTotalFeedCountFail() {
+            // given
+            given(feedRepository.count()).willReturn(3L).willThrow(new RuntimeException("DB 연결 실패"));
 
             // when
-            feedService.decreaseFeedLikes(feed.getId());
+            feedService.refreshTotalFeedCount();
+            feedService.refreshTotalFeedCount();
 
             // then
-            assertEquals(-1L, feed.getLikes(), "좋아요가 올바르게 삭제되지 않았습니다!");
+            assertEquals(3L, feedService.getTotalFeedCount(), "집계 실패 시 이전 게시글 수가 유지되지 않았습니다.");
         }
     }
+
+    @Test
+    @DisplayName("단건 게시글 ETag - 미반영 댓글 좋아요 변경 포함")
+    void testGetFeedETagWithCommentLikes() {
+        // given
+        Long feedId = 1L;
+        String eTag = "\"node-f1-3-0-1\"";
+        given(changeWatermark.feed(feedId)).willReturn(3L);
+        given(likeCounter.getPendingLikes(Contents.FEED, feedId)).willReturn(0L);
+        given(likeCounter.getCommentLikesVersion(feedId)).willReturn(1L);
+        given(changeWatermark.eTag("f" + feedId, 3L, 0L, 1L)).willReturn(eTag);
+
+        // when - then
+        assertEquals(eTag, feedService.getFeedETag(feedId), "댓글 좋아요 버전이 ETag에 포함되지 않았습니다.");
+    }
 }
@@ -0,0 +1,160 @@
+package com.sparta.newsfeedteamproject.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class HotFeedRankingTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    HotFeedRanking hotFeedRanking;
+
+    @BeforeEach
+    void setUp() {
+        hotFeedRanking = new HotFeedRanking(jdbcTemplate, 12, 3);
+    }
+
+    private void record(Long feedId, FeedActivityEvent.Activity activity, int times) {
+        for (int i = 0; i < times; i++) {
+            hotFeedRanking.onActivity(new FeedActivityEvent(feedId, activity));
+        }
+    }
+
+    @Test
+    @DisplayName("인기 순위 - 좋아요와 댓글 가중치 순서로 정렬")
+    void testRanking() {
+        // given
+        record(1L, FeedActivityEvent.Activity.LIKED, 1);
+        record(2L, FeedActivityEvent.Activity.COMMENTED, 1);
+        record(3L, FeedActivityEvent.Activity.LIKED, 3);
+
+        // when
+        List<Long> feedIds = hotFeedRanking.getPage(0, 10);
+
+        // then
+        assertEquals(List.of(3L, 2L, 1L), feedIds, "인기 순위가 올바르지 않습니다.");
+        assertEquals(List.of(2L), hotFeedRanking.getPage(1, 1), "두 번째 페이지가 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("인기 순위 - 상위 K개를 넘으면 가장 낮은 점수 제외")
+    void testCapacity() {
+        // given
+        record(1L, FeedActivityEvent.Activity.LIKED, 2);
+        record(2L, FeedActivityEvent.Activity.LIKED, 3);
+        record(3L, FeedActivityEvent.Activity.LIKED, 4);
+
+        // when
+        record(4L, FeedActivityEvent.Activity.COMMENTED, 3);
+
+        // then
+        assertEquals(List.of(4L, 3L, 2L), hotFeedRanking.getPage(0, 10), "가장 낮은 점수의 게시물이 제외되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("인기 순위 - 좋아요 취소와 게시물 삭제 반영")
+    void testCancelAndDelete() {
+        // given
+        record(1L, FeedActivityEvent.Activity.LIKED, 3);
+        record(2L, FeedActivityEvent.Activity.LIKED, 2);
+        record(3L, FeedActivityEvent.Activity.LIKED, 2);
+
+        // when
+        record(1L, FeedActivityEvent.Activity.UNLIKED, 2);
+        record(2L, FeedActivityEvent.Activity.DELETED, 1);
+
+        // then
+        assertEquals(List.of(3L, 1L), hotFeedRanking.getPage(0, 10), "좋아요 취소 또는 삭제가 순위에 반영되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("인기 점수 반영 - 변경량을 DB에 더한 뒤 상위 K개를 다시 조회")
+    @SuppressWarnings("unchecked")
+    void testFlush() throws Exception {
+        // given
+        record(1L, FeedActivityEvent.Activity.LIKED, 2);
+
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("id")).willReturn(5L);
+        given(rs.getDouble("feed_score")).willReturn(100.0);
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            return null;
+        }).given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), anyInt());
+
+        // when
+        hotFeedRanking.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE NewsFeed SET feed_score"), captor.capture());
+
+        assertEquals(1, captor.getValue().size(), "반영 대상 수가 올바르지 않습니다.");
+        assertEquals(1L, captor.getValue().get(0)[4], "반영 대상 게시물이 올바르지 않습니다.");
+        assertEquals(List.of(5L), hotFeedRanking.getPage(0, 10), "DB에서 다시 조회한 순위로 교체되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("인기 순위 버전 - 다시 조회한 순서가 같으면 유지")
+    void testVersionUnchangedOnSameOrder() throws Exception {
+        // given
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("id")).willReturn(5L);
+        given(rs.getDouble("feed_score")).willReturn(100.0);
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            return null;
+        }).given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), anyInt());
+
+        hotFeedRanking.flush();
+        long version = hotFeedRanking.getVersion();
+
+        // when
+        hotFeedRanking.flush();
+
+        // then
+        assertEquals(version, hotFeedRanking.getVersion(), "순서가 같은데 인기 순위 버전이 바뀌었습니다.");
+        assertEquals(List.of(5L), hotFeedRanking.getPage(0, 10), "인기 순위가 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("인기 순위 버전 - 순서가 바뀌면 증가")
+    void testVersionChangedOnNewOrder() {
+        // given
+        record(1L, FeedActivityEvent.Activity.LIKED, 2);
+        record(2L, FeedActivityEvent.Activity.LIKED, 1);
+        long version = hotFeedRanking.getVersion();
+
+        // when
+        record(2L, FeedActivityEvent.Activity.COMMENTED, 1);
+
+        // then
+        assertEquals(List.of(2L, 1L), hotFeedRanking.getPage(0, 10), "인기 순위가 올바르지 않습니다.");
+        assertNotEquals(version, hotFeedRanking.getVersion(), "순서가 바뀌었는데 인기 순위 버전이 그대로입니다.");
+    }
+}
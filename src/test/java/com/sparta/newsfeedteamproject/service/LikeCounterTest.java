@@ -0,0 +1,197 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.entity.Contents;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LikeCounterTest {
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+    @Mock
+    PlatformTransactionManager transactionManager;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    LikeCounter likeCounter;
+
+    @Test
+    @DisplayName("좋아요 변경량 누적 및 일괄 반영")
+    @SuppressWarnings("unchecked")
+    void testFlush() {
+        // given
+        Long feedId = 1L;
+        likeCounter.increase(Contents.FEED, feedId, feedId);
+        likeCounter.increase(Contents.FEED, feedId, feedId);
+        likeCounter.decrease(Contents.FEED, feedId, feedId);
+        likeCounter.increase(Contents.FEED, feedId, feedId);
+
+        // when
+        long pendingBeforeFlush = likeCounter.getPendingLikes(Contents.FEED, feedId);
+        likeCounter.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE NewsFeed SET likes = likes + ? WHERE id = ?"), captor.capture());
+
+        assertEquals(2L, pendingBeforeFlush, "반영 전 좋아요 변경량이 올바르지 않습니다.");
+        assertEquals(1, captor.getValue().size(), "일괄 반영 대상 수가 올바르지 않습니다.");
+        assertArrayEquals(new Object[]{2L, feedId}, captor.getValue().get(0), "반영된 좋아요 변경량이 올바르지 않습니다.");
+        assertEquals(0L, likeCounter.getPendingLikes(Contents.FEED, feedId), "반영 후 남은 변경량이 없어야 합니다.");
+        verify(eventPublisher).publishEvent(new FeedChangedEvent(feedId, FeedChangedEvent.Scope.FEED));
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 반영 시 댓글이 속한 게시물의 상세 변경 발행")
+    void testFlushComment() {
+        // given
+        Long feedId = 1L;
+        Long commentId = 2L;
+        likeCounter.increase(Contents.COMMENT, commentId, feedId);
+
+        // when
+        likeCounter.flush();
+
+        // then
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE comment SET likes = likes + ? WHERE id = ?"), anyList());
+        verify(eventPublisher).publishEvent(new FeedChangedEvent(feedId, FeedChangedEvent.Scope.DETAIL));
+    }
+
+    @Test
+    @DisplayName("같은 게시물의 게시물 좋아요와 댓글 좋아요를 함께 반영하면 FEED만 발행")
+    void testFlushFeedAndComment() {
+        // given
+        Long feedId = 1L;
+        Long commentId = 2L;
+        likeCounter.increase(Contents.COMMENT, commentId, feedId);
+        likeCounter.increase(Contents.FEED, feedId, feedId);
+
+        // when
+        likeCounter.flush();
+
+        // then
+        verify(eventPublisher).publishEvent(new FeedChangedEvent(feedId, FeedChangedEvent.Scope.FEED));
+        verify(eventPublisher, never()).publishEvent(new FeedChangedEvent(feedId, FeedChangedEvent.Scope.DETAIL));
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 누적과 반영 시 댓글이 속한 게시물의 댓글 좋아요 버전만 증가")
+    void testCommentLikesVersion() {
+        // given
+        Long feedId = 1L;
+        Long otherFeedId = 2L;
+        Long commentId = 3L;
+        long before = likeCounter.getCommentLikesVersion(feedId);
+        long otherBefore = likeCounter.getCommentLikesVersion(otherFeedId);
+
+        // when
+        likeCounter.increase(Contents.COMMENT, commentId, feedId);
+        long afterLike = likeCounter.getCommentLikesVersion(feedId);
+        likeCounter.flush();
+        long afterFlush = likeCounter.getCommentLikesVersion(feedId);
+
+        // then
+        assertNotEquals(before, afterLike, "댓글 좋아요 이후 댓글 좋아요 버전이 바뀌지 않았습니다.");
+        assertNotEquals(afterLike, afterFlush, "댓글 좋아요 반영 이후 댓글 좋아요 버전이 바뀌지 않았습니다.");
+        assertEquals(otherBefore, likeCounter.getCommentLikesVersion(otherFeedId), "다른 게시물의 댓글 좋아요 버전이 바뀌었습니다.");
+    }
+
+    @Test
+    @DisplayName("변경량이 상쇄된 경우 반영하지 않음")
+    void testFlushNoDelta() {
+        // given
+        Long feedId = 1L;
+        Long commentId = 1L;
+        likeCounter.increase(Contents.COMMENT, commentId, feedId);
+        likeCounter.decrease(Contents.COMMENT, commentId, feedId);
+
+        // when
+        likeCounter.flush();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 변경량 유지")
+    void testFlushFail() {
+        // given
+        Long feedId = 1L;
+        Long commentId = 1L;
+        likeCounter.increase(Contents.COMMENT, commentId, feedId);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // when
+        likeCounter.flush();
+
+        // then
+        assertEquals(1L, likeCounter.getPendingLikes(Contents.COMMENT, commentId), "반영에 실패한 변경량이 유지되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("일부 반영 실패 시 전체 롤백 후 모든 변경량 유지")
+    void testFlushPartialFail() {
+        // given
+        Long feedId = 1L;
+        Long commentId = 2L;
+        likeCounter.increase(Contents.FEED, feedId, feedId);
+        likeCounter.increase(Contents.COMMENT, commentId, feedId);
+        // 게시물 반영 이후 댓글 반영에서 실패
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willReturn(new int[]{1})
+                .willThrow(new DataAccessResourceFailureException("DB 연결 실패"));
+
+        // when
+        likeCounter.flush();
+
+        // then
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(eventPublisher, never()).publishEvent(any(FeedChangedEvent.class));
+        assertEquals(1L, likeCounter.getPendingLikes(Contents.FEED, feedId), "롤백된 게시물 좋아요 변경량이 유지되어야 합니다.");
+        assertEquals(1L, likeCounter.getPendingLikes(Contents.COMMENT, commentId), "롤백된 댓글 좋아요 변경량이 유지되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("캐시 삭제 실패 시 커밋된 변경량을 다시 반영하지 않음")
+    void testFlushListenerFail() {
+        // given
+        Long feedId = 1L;
+        likeCounter.increase(Contents.FEED, feedId, feedId);
+        willThrow(new IllegalStateException("캐시 삭제 실패")).given(eventPublisher).publishEvent(any(FeedChangedEvent.class));
+
+        // when
+        likeCounter.flush();
+        likeCounter.flush();
+
+        // then
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        verify(transactionManager).commit(any());
+        assertEquals(0L, likeCounter.getPendingLikes(Contents.FEED, feedId), "커밋된 변경량이 남아있으면 안 됩니다.");
+    }
+}
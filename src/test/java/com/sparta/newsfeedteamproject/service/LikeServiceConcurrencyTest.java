@@ -0,0 +1,182 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.dto.feed.FeedReqDto;
+import com.sparta.newsfeedteamproject.entity.Contents;
+import com.sparta.newsfeedteamproject.entity.Feed;
+import com.sparta.newsfeedteamproject.entity.Status;
+import com.sparta.newsfeedteamproject.entity.User;
+import com.sparta.newsfeedteamproject.repository.FeedRepository;
+import com.sparta.newsfeedteamproject.repository.LikeRepository;
+import com.sparta.newsfeedteamproject.repository.UserRepository;
+import com.sparta.newsfeedteamproject.security.UserDetailsImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+public class LikeServiceConcurrencyTest {
+
+    private static final int USER_COUNT = 50;
+    // 사용자마다 홀수 번 토글하여 최종적으로 모든 사용자가 좋아요한 상태가 되도록 설정
+    private static final int TOGGLE_COUNT_PER_USER = 41;
+
+    @Autowired
+    LikeService likeService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    FeedRepository feedRepository;
+    @Autowired
+    LikeRepository likeRepository;
+    @Autowired
+    LikeCounter likeCounter;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    User writer;
+    Feed feed;
+    List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(new User("likewriter",
+                "Password123!",
+                "Like Writer",
+                "likewriter@email.com",
+                "My name is Like Writer.",
+                Status.ACTIVATE,
+                LocalDateTime.now()));
+
+        FeedReqDto feedReqDto = new FeedReqDto();
+        ReflectionTestUtils.setField(feedReqDto, "contents", "Test Feed");
+        feed = feedRepository.save(new Feed(feedReqDto, writer));
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(userRepository.save(new User("likeuser" + i,
+                    "Password123!",
+                    "Like User " + i,
+                    "likeuser" + i + "@email.com",
+                    null,
+                    Status.ACTIVATE,
+                    LocalDateTime.now())));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeRepository.findAllByContentsIdAndContents(feed.getId(), Contents.FEED)
+                .ifPresent(likes -> likeRepository.deleteAll(likes));
+        feedRepository.deleteById(feed.getId());
+        userRepository.deleteAll(users);
+        userRepository.delete(writer);
+    }
+
+    @Test
+    @DisplayName("동시 좋아요 토글 - 좋아요 수와 likes 테이블 일치")
+    void testConcurrentLikeToggles() throws Exception {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (User user : users) {
+            UserDetailsImpl userDetails = new UserDetailsImpl(user);
+            futures.add(executorService.submit(() -> {
+                for (int i = 0; i < TOGGLE_COUNT_PER_USER; i++) {
+                    likeService.likeFeed(feed.getId(), userDetails);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        // 메모리에 모인 좋아요 변경량을 DB에 반영
+        likeCounter.flush();
+
+        // then
+        long likeRows = likeRepository.countByContentsIdAndContents(feed.getId(), Contents.FEED);
+        Long likes = feedRepository.findById(feed.getId()).orElseThrow().getLikes();
+
+        assertEquals(USER_COUNT, likeRows, "likes 테이블의 좋아요 수가 올바르지 않습니다.");
+        assertEquals(likeRows, likes, "게시글의 좋아요 수가 likes 테이블과 일치하지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 좋아요 등록 - 한 번만 반영")
+    void testConcurrentAddFeedLike() throws Exception {
+        // given
+        UserDetailsImpl userDetails = new UserDetailsImpl(users.get(0));
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 32; i++) {
+            futures.add(executorService.submit(() -> likeService.addFeedLike(feed.getId(), userDetails)));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        likeCounter.flush();
+
+        // then
+        long likeRows = likeRepository.countByContentsIdAndContents(feed.getId(), Contents.FEED);
+        Long likes = feedRepository.findById(feed.getId()).orElseThrow().getLikes();
+
+        assertEquals(1L, likeRows, "중복 좋아요가 등록되었습니다.");
+        assertEquals(1L, likes, "게시글의 좋아요 수가 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("게시글 수정 중 좋아요 수 반영 - 수정이 좋아요 수를 덮어쓰지 않음")
+    void testFlushDuringFeedUpdate() throws Exception {
+        // given
+        for (int i = 0; i < 3; i++) {
+            likeCounter.increase(Contents.FEED, feed.getId(), feed.getId());
+        }
+
+        FeedReqDto feedReqDto = new FeedReqDto();
+        ReflectionTestUtils.setField(feedReqDto, "contents", "Edited Feed");
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when - 수정할 게시글을 읽은 뒤, 커밋 전에 다른 스레드에서 좋아요 수 반영
+        transactionTemplate.executeWithoutResult(status -> {
+            Feed editing = feedRepository.findById(feed.getId()).orElseThrow();
+
+            try {
+                executorService.submit(likeCounter::flush).get();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+
+            editing.update(feedReqDto);
+        });
+        executorService.shutdown();
+
+        // then
+        Feed updated = feedRepository.findById(feed.getId()).orElseThrow();
+
+        assertEquals("Edited Feed", updated.getContents(), "게시글이 수정되지 않았습니다.");
+        assertEquals(3L, updated.getLikes(), "게시글 수정으로 좋아요 수가 덮어써졌습니다.");
+    }
+}
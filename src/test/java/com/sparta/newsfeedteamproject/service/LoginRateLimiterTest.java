@@ -0,0 +1,119 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.newsfeedteamproject.entity.Status;
+import com.sparta.newsfeedteamproject.entity.User;
+import com.sparta.newsfeedteamproject.exception.TooManyRequestsException;
+import com.sparta.newsfeedteamproject.security.AuthenticationFilter;
+import com.sparta.newsfeedteamproject.security.InMemoryLoginRateLimiter;
+import com.sparta.newsfeedteamproject.security.LoginRateLimitPolicy;
+import com.sparta.newsfeedteamproject.security.UserAuthenticationProvider;
+import com.sparta.newsfeedteamproject.security.UserDetailsImpl;
+import com.sparta.newsfeedteamproject.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class LoginRateLimiterTest {
+
+    @Mock
+    UserDetailsServiceImpl userDetailsService;
+    @Mock
+    PasswordEncoder passwordEncoder;
+
+    LoginRateLimitPolicy policy = new LoginRateLimitPolicy(600, 5, 20, 60, 900);
+    InMemoryLoginRateLimiter loginRateLimiter;
+    AuthenticationFilter authenticationFilter;
+
+    String username = "spartaclub";
+    String clientIp = "10.0.0.1";
+
+    @BeforeEach
+    void setUp() {
+        loginRateLimiter = new InMemoryLoginRateLimiter(policy);
+        authenticationFilter = new AuthenticationFilter(null, new ObjectMapper(), loginRateLimiter);
+        authenticationFilter.setAuthenticationManager(new ProviderManager(new UserAuthenticationProvider(userDetailsService, passwordEncoder)));
+    }
+
+    private MockHttpServletResponse login(String username, String password) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/users/login");
+        request.setServletPath("/users/login");
+        request.setRemoteAddr(clientIp);
+        request.setContent(("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}").getBytes(StandardCharsets.UTF_8));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authenticationFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    @DisplayName("로그인 제한 - 잠금된 로그인 시도는 사용자 조회, 비밀번호 검증 없이 거부")
+    void testRejectedLoginNeverReachesPasswordEncoder() throws Exception {
+        // given
+        User user = new User(username, "encodedPassword", "Sparta Club", "sparta@email.com", "My name is Sparta Club.", Status.ACTIVATE, LocalDateTime.now());
+        given(userDetailsService.loadUserByUsername(username)).willReturn(new UserDetailsImpl(user));
+        given(passwordEncoder.matches(any(), any())).willReturn(false);
+
+        for (int i = 0; i < 5; i++) {
+            login(username, "WrongPassword1!");
+        }
+        verify(passwordEncoder, times(5)).matches(any(), any());
+        clearInvocations(userDetailsService, passwordEncoder);
+
+        // when
+        MockHttpServletResponse response = login(username, "Password123!");
+
+        // then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus(), "로그인 시도가 거부되지 않았습니다.");
+        assertNotNull(response.getHeader(HttpHeaders.RETRY_AFTER), "Retry-After 헤더가 설정되지 않았습니다.");
+        verifyNoInteractions(userDetailsService, passwordEncoder);
+    }
+
+    @Test
+    @DisplayName("로그인 제한 - 같은 IP에서 여러 사용자 이름으로 실패한 경우 IP 잠금")
+    void testLockoutByClientIp() {
+        // given
+        for (int i = 0; i < 20; i++) {
+            loginRateLimiter.recordFailure("spartaclub" + i, clientIp);
+        }
+
+        // when - then
+        assertThrows(TooManyRequestsException.class, () -> loginRateLimiter.checkAllowed("newspartaclub", clientIp), "IP 잠금이 적용되지 않았습니다.");
+        assertDoesNotThrow(() -> loginRateLimiter.checkAllowed("newspartaclub", "10.0.0.2"), "다른 IP가 잠금되었습니다.");
+    }
+
+    @Test
+    @DisplayName("로그인 제한 - 실패가 계속되면 잠금 시간이 2배씩 증가")
+    void testProgressiveLockout() {
+        // given
+        long now = System.currentTimeMillis();
+
+        // when - then
+        assertEquals(0L, policy.remainingLockoutMillis(4, now, 5, now), "허용 횟수 이내에서 잠금되었습니다.");
+        assertEquals(60_000L, policy.remainingLockoutMillis(5, now, 5, now), "첫 잠금 시간이 올바르지 않습니다.");
+        assertEquals(240_000L, policy.remainingLockoutMillis(7, now, 5, now), "잠금 시간이 점진적으로 증가하지 않았습니다.");
+        assertEquals(900_000L, policy.remainingLockoutMillis(20, now, 5, now), "최대 잠금 시간을 초과하였습니다.");
+    }
+}
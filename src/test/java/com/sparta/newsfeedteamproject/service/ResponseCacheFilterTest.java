@@ -0,0 +1,183 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.filter.ResponseCache;
+import com.sparta.newsfeedteamproject.filter.ResponseCacheFilter;
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@ExtendWith(MockitoExtension.class)
+public class ResponseCacheFilterTest {
+
+    private static final String BODY = "{\"statusCode\":200,\"message\":\"게시물 조회가 완료되었습니다!\"}";
+    private static final String ETAG = "\"v1\"";
+
+    @Mock
+    RedisUtil redisUtil;
+
+    ResponseCache responseCache;
+    ResponseCacheFilter responseCacheFilter;
+    AtomicInteger controllerCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new ResponseCache(redisUtil, true, 10, 1024 * 1024);
+        responseCacheFilter = new ResponseCacheFilter(responseCache);
+    }
+
+    private MockHttpServletResponse get(String uri, String query, String acceptEncoding) throws ServletException, IOException {
+        return get(uri, query, acceptEncoding, null);
+    }
+
+    private MockHttpServletResponse get(String uri, String query, String acceptEncoding, String ifNoneMatch) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setQueryString(query);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        responseCacheFilter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                controllerCalls.incrementAndGet();
+                res.setContentType("application/json");
+                res.setHeader(HttpHeaders.ETAG, ETAG);
+                res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+
+        return response;
+    }
+
+    @Test
+    @DisplayName("응답 캐시 - 두 번째 요청은 Controller를 거치지 않고 저장된 바이트로 응답")
+    void testHit() throws Exception {
+        // when
+        get("/feeds/all", "page=1", null);
+        MockHttpServletResponse response = get("/feeds/all", "page=1", null);
+
+        // then
+        assertEquals(1, controllerCalls.get(), "저장된 응답이 있는데 Controller가 호출되었습니다.");
+        assertEquals(BODY, response.getContentAsString(StandardCharsets.UTF_8), "저장된 응답 본문이 올바르지 않습니다.");
+        assertEquals("application/json", response.getContentType(), "저장된 응답의 Content-Type이 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("응답 캐시 - gzip을 허용하면 압축본으로 응답")
+    void testGzipHit() throws Exception {
+        // given
+        get("/feeds/1", null, null);
+
+        // when
+        MockHttpServletResponse response = get("/feeds/1", null, "gzip, deflate");
+
+        // then
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING), "압축본으로 응답하지 않았습니다.");
+        assertEquals("\"v1-gzip\"", response.getHeader(HttpHeaders.ETAG), "압축본의 ETag가 원본과 구분되지 않았습니다.");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals(BODY, new String(in.readAllBytes(), StandardCharsets.UTF_8), "압축 해제한 응답 본문이 올바르지 않습니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("응답 캐시 - 저장된 응답과 ETag가 같으면 본문 없이 304 응답")
+    void testNotModifiedHit() throws Exception {
+        // given
+        get("/feeds/1", null, null);
+
+        // when
+        MockHttpServletResponse response = get("/feeds/1", null, null, "W/\"v0\", " + ETAG);
+
+        // then
+        assertEquals(1, controllerCalls.get(), "저장된 응답이 있는데 Controller가 호출되었습니다.");
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus(), "ETag가 같은데 304로 응답하지 않았습니다.");
+        assertEquals(ETAG, response.getHeader(HttpHeaders.ETAG), "304 응답의 ETag가 올바르지 않습니다.");
+        assertEquals(0, response.getContentAsByteArray().length, "304 응답에 본문이 포함되었습니다.");
+    }
+
+    @Test
+    @DisplayName("응답 캐시 - 쿼리가 다르면 다른 응답으로 저장")
+    void testQueryKey() throws Exception {
+        // when
+        get("/feeds/all", "page=1", null);
+        get("/feeds/all", "page=2", null);
+
+        // then
+        assertEquals(2, controllerCalls.get(), "쿼리가 다른 요청에 같은 응답을 반환하였습니다.");
+    }
+
+    @Test
+    @DisplayName("댓글 변경 - 게시물과 댓글 응답만 삭제하고 목록과 다른 게시물 응답은 유지")
+    void testEvictDetail() throws Exception {
+        // given
+        get("/feeds/1", null, null);
+        get("/feeds/1/comments/2", null, null);
+        get("/feeds/2", null, null);
+        get("/feeds/all", null, null);
+
+        // when
+        responseCache.onFeedChanged(new FeedChangedEvent(1L, FeedChangedEvent.Scope.DETAIL));
+        get("/feeds/1", null, null);
+        get("/feeds/1/comments/2", null, null);
+        get("/feeds/2", null, null);
+        get("/feeds/all", null, null);
+
+        // then
+        assertEquals(6, controllerCalls.get(), "변경된 게시물과 댓글 응답만 다시 생성되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("게시물 변경 - 게시물, 댓글, 목록 응답 삭제")
+    void testEvictFeed() throws Exception {
+        // given
+        get("/feeds/1", null, null);
+        get("/feeds/1/comments/2", null, null);
+        get("/feeds/all", null, null);
+
+        // when
+        responseCache.onFeedChanged(new FeedChangedEvent(1L, FeedChangedEvent.Scope.FEED));
+        get("/feeds/1", null, null);
+        get("/feeds/1/comments/2", null, null);
+        get("/feeds/all", null, null);
+
+        // then
+        assertEquals(6, controllerCalls.get(), "변경된 게시물의 응답이 모두 다시 생성되어야 합니다.");
+    }
+
+    @Test
+    @DisplayName("응답 캐시 - 허용되지 않은 경로는 저장하지 않음")
+    void testNotCacheablePath() throws Exception {
+        // when
+        MockHttpServletResponse first = get("/feeds/1/comments", null, null);
+        get("/feeds/1/comments", null, null);
+
+        // then
+        assertEquals(2, controllerCalls.get(), "허용되지 않은 경로의 응답이 저장되었습니다.");
+        assertNull(first.getHeader(HttpHeaders.VARY), "저장 대상이 아닌 응답에 Vary 헤더가 추가되었습니다.");
+    }
+}
@@ -0,0 +1,116 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.config.JwtConfig;
+import com.sparta.newsfeedteamproject.security.TokenRevocationStore;
+import com.sparta.newsfeedteamproject.util.RedisUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationStoreTest {
+
+    @Mock
+    RedisUtil redisUtil;
+
+    TokenRevocationStore tokenRevocationStore;
+
+    Long userId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationStore = new TokenRevocationStore(redisUtil, 1800000L, 1000);
+    }
+
+    private Claims claims(Date issuedAt) {
+        Claims claims = Jwts.claims().setSubject("spartaclub").setIssuedAt(issuedAt);
+        claims.put(JwtConfig.USER_ID_KEY, userId);
+        return claims;
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 로그아웃 이전에 발급된 토큰 거부")
+    void testRevokedBeforeLogout() {
+        // given
+        Claims issuedBeforeLogout = claims(new Date(System.currentTimeMillis() - 60000L));
+
+        // when
+        tokenRevocationStore.revokeTokens(userId);
+
+        // then
+        assertTrue(tokenRevocationStore.isRevoked(issuedBeforeLogout), "로그아웃 이전에 발급된 토큰이 거부되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 로그아웃 이후에 발급된 토큰 허용")
+    void testNotRevokedAfterLogout() {
+        // given
+        tokenRevocationStore.revokeTokens(userId);
+
+        // when
+        Claims issuedAfterLogout = claims(new Date(System.currentTimeMillis() + 2000L));
+
+        // then
+        assertFalse(tokenRevocationStore.isRevoked(issuedAfterLogout), "로그아웃 이후에 발급된 토큰이 거부되었습니다.");
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 폐기되지 않은 사용자는 Redis 조회 없이 허용")
+    void testNotRevokedWithoutRedisLookup() {
+        // given
+        Claims neverRevoked = claims(new Date());
+
+        // when
+        boolean revoked = tokenRevocationStore.isRevoked(neverRevoked);
+
+        // then
+        assertFalse(revoked, "폐기되지 않은 사용자의 토큰이 거부되었습니다.");
+        then(redisUtil).should(never()).getData(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 다른 서버에서 전파된 폐기 반영")
+    void testRevokedByOtherServer() {
+        // given
+        Claims issuedBeforeLogout = claims(new Date(System.currentTimeMillis() - 60000L));
+        byte[] body = (userId + ":" + System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        tokenRevocationStore.onMessage(new DefaultMessage(TokenRevocationStore.CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        assertTrue(tokenRevocationStore.isRevoked(issuedBeforeLogout), "다른 서버에서 폐기된 토큰이 거부되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 로컬 캐시에 없는 폐기 시각은 Redis에서 조회")
+    void testRevokedLoadedFromRedis() {
+        // given
+        Claims issuedBeforeLogout = claims(new Date(System.currentTimeMillis() - 60000L));
+        given(redisUtil.scanKeys("token:revoked:*")).willReturn(List.of("token:revoked:" + userId));
+        given(redisUtil.getData("token:revoked:" + userId)).willReturn(String.valueOf(System.currentTimeMillis()));
+
+        // when - 필터에만 반영되고 로컬 캐시에는 없는 상태 (캐시 크기 초과로 밀려난 경우와 같음)
+        tokenRevocationStore.warmUp();
+
+        // then
+        assertTrue(tokenRevocationStore.isRevoked(issuedBeforeLogout), "Redis에 저장된 폐기 정보가 반영되지 않았습니다.");
+    }
+}
@@ -0,0 +1,94 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.sparta.newsfeedteamproject.entity.Status;
+import com.sparta.newsfeedteamproject.entity.User;
+import com.sparta.newsfeedteamproject.security.UserAuthenticationProvider;
+import com.sparta.newsfeedteamproject.security.UserDetailsImpl;
+import com.sparta.newsfeedteamproject.security.UserDetailsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class UserAuthenticationProviderTest {
+
+    @Mock
+    UserDetailsServiceImpl userDetailsService;
+    @Mock
+    PasswordEncoder passwordEncoder;
+
+    UserAuthenticationProvider userAuthenticationProvider;
+
+    String username = "spartaclub";
+    String password = "Password123!";
+
+    @BeforeEach
+    void setUp() {
+        userAuthenticationProvider = new UserAuthenticationProvider(userDetailsService, passwordEncoder);
+    }
+
+    private UserDetailsImpl userDetails(Status status) {
+        User user = new User(username, "encodedPassword", "Sparta Club", "sparta@email.com", "My name is Sparta Club.", status, LocalDateTime.now());
+        user.setId(1L);
+        return new UserDetailsImpl(user);
+    }
+
+    @Test
+    @DisplayName("로그인 인증 - 성공")
+    void testAuthenticate() {
+        // given
+        UserDetailsImpl userDetails = userDetails(Status.ACTIVATE);
+        given(userDetailsService.loadUserByUsername(username)).willReturn(userDetails);
+        given(passwordEncoder.matches(password, "encodedPassword")).willReturn(true);
+
+        // when
+        Authentication authentication = userAuthenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(username, password));
+
+        // then
+        assertTrue(authentication.isAuthenticated(), "인증이 완료되지 않았습니다.");
+        assertSame(userDetails, authentication.getPrincipal(), "조회한 사용자가 그대로 전달되지 않았습니다.");
+        verify(userDetailsService, times(1)).loadUserByUsername(username);
+    }
+
+    @Test
+    @DisplayName("로그인 인증 - 탈퇴한 회원 실패")
+    void testAuthenticateDeactivatedUserFail() {
+        // given
+        given(userDetailsService.loadUserByUsername(username)).willReturn(userDetails(Status.DEACTIVATE));
+
+        // when - then
+        DisabledException exception = assertThrows(DisabledException.class,
+                () -> userAuthenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(username, password)));
+        assertEquals("탈퇴한 회원입니다.", exception.getMessage(), "올바른 예외가 발생되지 않았습니다.");
+        verify(passwordEncoder, never()).matches(any(), any());
+    }
+
+    @Test
+    @DisplayName("로그인 인증 - 비밀번호 불일치 실패")
+    void testAuthenticateIncorrectPasswordFail() {
+        // given
+        given(userDetailsService.loadUserByUsername(username)).willReturn(userDetails(Status.ACTIVATE));
+        given(passwordEncoder.matches(password, "encodedPassword")).willReturn(false);
+
+        // when - then
+        assertThrows(BadCredentialsException.class,
+                () -> userAuthenticationProvider.authenticate(new UsernamePasswordAuthenticationToken(username, password)));
+    }
+}
@@ -3,6 +3,7 @@ package com.sparta.newsfeedteamproject.service;
 import com.sparta.newsfeedteamproject.entity.Status;
 import com.sparta.newsfeedteamproject.entity.User;
 import com.sparta.newsfeedteamproject.repository.UserRepository;
+import com.sparta.newsfeedteamproject.security.UserDetailsImpl;
 import com.sparta.newsfeedteamproject.security.UserDetailsServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -19,6 +20,8 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class UserDetailsServiceImplTest {
@@ -76,4 +79,64 @@ public class UserDetailsServiceImplTest {
             assertEquals("사용자를 찾을 수 없습니다.", exception.getMessage(), "올바른 예외가 발생되지 않았습니다.");
         }
     }
+
+    @Nested
+    @DisplayName("사용자 캐시")
+    class UserDetailsCacheTest {
+
+        String username = "spartaclub";
+
+        User user = new User(username, "Password123!", "Sparta Club", "sparta@email.com", "My name is Sparta Club.", Status.ACTIVATE, LocalDateTime.now());
+
+        @Test
+        @DisplayName("사용자 캐시 - 두 번째 조회부터 DB 조회 없음")
+        void testLoadUserByUsernameCached() {
+            // given
+            given(userRepository.findByUsername(username)).willReturn(Optional.of(user));
+
+            // when
+            UserDetails first = userDetailsServiceImpl.loadUserByUsername(username);
+            UserDetails second = userDetailsServiceImpl.loadUserByUsername(username);
+
+            // then
+            verify(userRepository, times(1)).findByUsername(username);
+            assertEquals(first.getUsername(), second.getUsername(), "캐시된 사용자가 반환되지 않았습니다.");
+            assertNotSame(first, second, "요청 사이에 같은 인증 정보가 공유되었습니다.");
+        }
+
+        @Test
+        @DisplayName("사용자 캐시 - 반환된 사용자를 수정해도 캐시에 영향 없음")
+        void testLoadUserByUsernameCachedSnapshot() {
+            // given
+            given(userRepository.findByUsername(username)).willReturn(Optional.of(user));
+            UserDetailsImpl first = (UserDetailsImpl) userDetailsServiceImpl.loadUserByUsername(username);
+
+            // when
+            first.getUser().setStatus(Status.DEACTIVATE);
+            first.getUser().setPassword("Changed123!");
+            user.setStatus(Status.DEACTIVATE);
+            UserDetailsImpl second = (UserDetailsImpl) userDetailsServiceImpl.loadUserByUsername(username);
+
+            // then
+            assertNotSame(first.getUser(), second.getUser(), "캐시된 User 객체가 그대로 반환되었습니다.");
+            assertEquals(Status.ACTIVATE, second.getUser().getStatus(), "반환된 사용자 수정이 캐시에 반영되었습니다.");
+            assertEquals("Password123!", second.getPassword(), "반환된 사용자 수정이 캐시에 반영되었습니다.");
+            assertTrue(second.isEnabled(), "캐시된 사용자의 권한이 올바르지 않습니다.");
+        }
+
+        @Test
+        @DisplayName("사용자 캐시 - 제거 후 다시 DB 조회")
+        void testEvictUser() {
+            // given
+            given(userRepository.findByUsername(username)).willReturn(Optional.of(user));
+            userDetailsServiceImpl.loadUserByUsername(username);
+
+            // when
+            userDetailsServiceImpl.evictUser(username);
+            userDetailsServiceImpl.loadUserByUsername(username);
+
+            // then
+            verify(userRepository, times(2)).findByUsername(username);
+        }
+    }
 }
@@ -4,13 +4,16 @@ import com.sparta.newsfeedteamproject.dto.user.ProfileResDto;
 import com.sparta.newsfeedteamproject.dto.user.SignupReqDto;
 import com.sparta.newsfeedteamproject.dto.user.UpdateReqDto;
 import com.sparta.newsfeedteamproject.dto.user.UserAuthReqDto;
+import com.sparta.newsfeedteamproject.dto.user.VerifyReqDto;
 import com.sparta.newsfeedteamproject.entity.Status;
 import com.sparta.newsfeedteamproject.entity.User;
 import com.sparta.newsfeedteamproject.repository.UserRepository;
+import com.sparta.newsfeedteamproject.security.RefreshTokenStore;
 import com.sparta.newsfeedteamproject.security.UserDetailsImpl;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,8 +21,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "jwt.refresh.store=memory")
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class UserServiceIntegrationTest {
@@ -30,6 +34,11 @@ public class UserServiceIntegrationTest {
     UserRepository userRepository;
     @Autowired
     PasswordEncoder passwordEncoder;
+    @Autowired
+    RefreshTokenStore refreshTokenStore;
+    // 인증번호 저장(Redis)과 메일 발송 없이 회원가입 처리
+    @MockBean
+    EmailVerificationService emailVerificationService;
 
     String username = "spartaclub";
     String password = "Password123!";
@@ -75,7 +84,7 @@ public class UserServiceIntegrationTest {
             assertEquals(name, foundUser.getName(), "Name이 올바르게 저장되지 않았습니다.");
             assertEquals(email, foundUser.getEmail(), "Email이 올바르게 저장되지 않았습니다.");
             assertEquals(userInfo, foundUser.getUserInfo(), "UserInfo가 올바르게 저장되지 않았습니다.");
-            assertEquals(Status.ACTIVATE, foundUser.getStatus(), "Status가 올바르게 저장되지 않았습니다.");
+            assertEquals(Status.UNAUTHORIZED, foundUser.getStatus(), "Status가 올바르게 저장되지 않았습니다.");
             assertNotNull(foundUser.getStatusModTime(), "StatusModTime이 올바르게 저장되지 않았습니다.");
         }
 
@@ -118,6 +127,49 @@ public class UserServiceIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("이메일 인증")
+    class VerifyEmailTest {
+
+        private VerifyReqDto setVerifyReqDto(String code) {
+            VerifyReqDto verifyReqDto = new VerifyReqDto();
+
+            ReflectionTestUtils.setField(verifyReqDto, "email", email);
+            ReflectionTestUtils.setField(verifyReqDto, "code", code);
+
+            return verifyReqDto;
+        }
+
+        @Test
+        @Transactional
+        @DisplayName("이메일 인증 - 성공")
+        void testVerifyEmail() {
+            // given
+            userService.signup(signupReqDto);
+            given(emailVerificationService.verifyCode(email, "123456")).willReturn(true);
+
+            // when
+            userService.verifyEmail(setVerifyReqDto("123456"));
+
+            // then
+            User foundUser = userRepository.findByUsername(username).orElse(null);
+            assertEquals(Status.ACTIVATE, foundUser.getStatus(), "이메일 인증 후 활성화되지 않았습니다.");
+        }
+
+        @Test
+        @Transactional
+        @DisplayName("이메일 인증 - 인증번호 불일치 실패")
+        void testVerifyEmailUnvalidCodeFail() {
+            // given
+            userService.signup(signupReqDto);
+            given(emailVerificationService.verifyCode(email, "000000")).willReturn(false);
+
+            // when - then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> userService.verifyEmail(setVerifyReqDto("000000")));
+            assertEquals("유효하지 않은 인증번호입니다.", exception.getMessage(), "올바른 예외가 발생되지 않았습니다.");
+        }
+    }
+
     @Nested
     @DisplayName("회원탈퇴")
     class WithdrawTest {
@@ -191,13 +243,13 @@ public class UserServiceIntegrationTest {
             Long userId = user.getId();
 
             UserDetailsImpl userDetails = new UserDetailsImpl(user);
+            refreshTokenStore.save(username, "refreshToken123");
 
             // when
             userService.logout(userId, userDetails);
 
             // then
-            User foundUser = userRepository.findById(userId).orElse(null);
-            assertEquals("", foundUser.getRefreshToken(), "로그아웃이 올바르게 진행되지 않았습니다.");
+            assertFalse(refreshTokenStore.matches(username, "refreshToken123"), "로그아웃이 올바르게 진행되지 않았습니다.");
         }
 
         @Test
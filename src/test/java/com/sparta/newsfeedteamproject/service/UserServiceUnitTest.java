@@ -1,5 +1,7 @@
 package com.sparta.newsfeedteamproject.service;
 
+import com.sparta.newsfeedteamproject.dto.user.SignupAvailabilityResDto;
+import com.sparta.newsfeedteamproject.dto.user.SignupReqDto;
 import com.sparta.newsfeedteamproject.entity.Status;
 import com.sparta.newsfeedteamproject.entity.User;
 import com.sparta.newsfeedteamproject.repository.UserRepository;
@@ -10,18 +12,35 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceUnitTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private SignupBloomFilter signupBloomFilter;
+    @Mock
+    private EmailVerificationService emailVerificationService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     // 실제 UserService 를 사용하기 위해
     @InjectMocks
@@ -103,4 +122,147 @@ public class UserServiceUnitTest {
             assertEquals("존재하지 않는 사용자입니다.", exception.getMessage(), "올바른 예외가 발생되지 않았습니다.");
         }
     }
+
+    @Nested
+    @DisplayName("회원가입")
+    class SignupTest {
+
+        private SignupReqDto signupReqDto() {
+            SignupReqDto signupReqDto = new SignupReqDto();
+
+            ReflectionTestUtils.setField(signupReqDto, "username", username);
+            ReflectionTestUtils.setField(signupReqDto, "password", password);
+            ReflectionTestUtils.setField(signupReqDto, "name", name);
+            ReflectionTestUtils.setField(signupReqDto, "email", email);
+            ReflectionTestUtils.setField(signupReqDto, "userInfo", userInfo);
+
+            return signupReqDto;
+        }
+
+        @Test
+        @DisplayName("회원가입 - 필터에 없는 username, email은 중복 조회 없이 가입")
+        void testSignupWithoutDuplicateQuery() {
+            // given
+            given(signupBloomFilter.mightBeTakenUsername(username)).willReturn(false);
+            given(signupBloomFilter.mightBeTakenEmail(email)).willReturn(false);
+            given(passwordEncoder.encode(password)).willReturn("encodedPassword");
+
+            // when
+            userService.signup(signupReqDto());
+
+            // then
+            verify(userRepository, never()).findAllByUsernameOrEmail(anyString(), anyString());
+            verify(userRepository).saveAndFlush(any(User.class));
+            verify(signupBloomFilter).add(username, email);
+            verify(eventPublisher).publishEvent(new SignupCompletedEvent(email));
+            verify(emailVerificationService, never()).sendCode(anyString());
+        }
+
+        @Test
+        @DisplayName("회원가입 - 중복 username 은 비밀번호 해싱 전에 실패")
+        void testSignupDuplicatedUsernameBeforeHashingFail() {
+            // given
+            User user = new User(username, password, name, "sparta2@email.com", userInfo, status, LocalDateTime.now());
+
+            given(signupBloomFilter.mightBeTakenUsername(username)).willReturn(true);
+            given(userRepository.findAllByUsernameOrEmail(username, email)).willReturn(List.of(user));
+
+            // when - then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> userService.signup(signupReqDto()));
+            assertEquals("중복된 사용자 이름 입니다.", exception.getMessage(), "올바른 예외가 발생되지 않았습니다.");
+            verify(passwordEncoder, never()).encode(any());
+        }
+
+        @Test
+        @DisplayName("회원가입 - 대소문자만 다른 username 은 중복으로 실패")
+        void testSignupDuplicatedUsernameIgnoreCaseFail() {
+            // given
+            User user = new User(username.toUpperCase(), password, name, "sparta2@email.com", userInfo, status, LocalDateTime.now());
+
+            given(signupBloomFilter.mightBeTakenUsername(username)).willReturn(true);
+            given(userRepository.findAllByUsernameOrEmail(username, email)).willReturn(List.of(user));
+
+            // when - then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> userService.signup(signupReqDto()));
+            assertEquals("중복된 사용자 이름 입니다.", exception.getMessage(), "올바른 예외가 발생되지 않았습니다.");
+            verify(passwordEncoder, never()).encode(any());
+        }
+
+        @Test
+        @DisplayName("회원가입 - 대소문자만 다른 Email 은 사용 불가로 조회")
+        void testCheckAvailabilityEmailIgnoreCase() {
+            // given
+            User user = new User("spartaclub2", password, name, email.toUpperCase(), userInfo, status, LocalDateTime.now());
+
+            given(signupBloomFilter.mightBeTakenEmail(email)).willReturn(true);
+            given(userRepository.findAllByUsernameOrEmail(null, email)).willReturn(List.of(user));
+
+            // when
+            SignupAvailabilityResDto resDto = userService.checkAvailability(null, email);
+
+            // then
+            assertFalse(resDto.getEmailAvailable(), "대소문자만 다른 Email 이 사용 가능으로 조회되었습니다.");
+        }
+
+        @Test
+        @DisplayName("회원가입 - 동시 가입으로 unique 제약 조건 위반 시 중복 Email 실패")
+        void testSignupEmailConstraintViolationFail() {
+            // given
+            given(signupBloomFilter.mightBeTakenUsername(username)).willReturn(false);
+            given(signupBloomFilter.mightBeTakenEmail(email)).willReturn(false);
+            given(passwordEncoder.encode(password)).willReturn("encodedPassword");
+            given(userRepository.saveAndFlush(any(User.class)))
+                    .willThrow(new DataIntegrityViolationException("Duplicate entry 'sparta@email.com' for key 'users.uk_users_email'"));
+
+            // when - then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> userService.signup(signupReqDto()));
+            assertEquals("중복된 이메일 입니다.", exception.getMessage(), "올바른 예외가 발생되지 않았습니다.");
+        }
+    }
+
+    @Nested
+    @DisplayName("인증번호 재발송")
+    class ResendCodeTest {
+
+        String clientIp = "127.0.0.1";
+
+        @Test
+        @DisplayName("인증번호 재발송 - 인증하지 않은 회원에게 발송")
+        void testResendCode() {
+            // given
+            User user = new User(username, password, name, email, userInfo, Status.UNAUTHORIZED, LocalDateTime.now());
+            given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+
+            // when
+            userService.resendCode(email, clientIp);
+
+            // then
+            verify(emailVerificationService).checkResendAllowed(email, clientIp);
+            verify(emailVerificationService).sendCode(email);
+        }
+
+        @Test
+        @DisplayName("인증번호 재발송 - 가입하지 않은 이메일도 같은 응답")
+        void testResendCodeUnknownEmail() {
+            // given
+            given(userRepository.findByEmail(email)).willReturn(Optional.empty());
+
+            // when - then
+            assertDoesNotThrow(() -> userService.resendCode(email, clientIp), "가입하지 않은 이메일에 다른 응답을 반환했습니다.");
+            verify(emailVerificationService).checkResendAllowed(email, clientIp);
+            verify(emailVerificationService, never()).sendCode(anyString());
+        }
+
+        @Test
+        @DisplayName("인증번호 재발송 - 이미 인증한 회원도 같은 응답")
+        void testResendCodeAuthenticatedUser() {
+            // given
+            User user = new User(username, password, name, email, userInfo, Status.ACTIVATE, LocalDateTime.now());
+            given(userRepository.findByEmail(email)).willReturn(Optional.of(user));
+
+            // when - then
+            assertDoesNotThrow(() -> userService.resendCode(email, clientIp), "이미 인증한 회원에게 다른 응답을 반환했습니다.");
+            verify(emailVerificationService, never()).sendCode(anyString());
+        }
+    }
 }
@@ -0,0 +1,80 @@
+package com.sparta.newsfeedteamproject.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 로컬 in-process SMTP 서버(GreenMail)로 발송 결과 확인
+public class VerificationMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    VerificationMailSender verificationMailSender;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setCharacterEncoding("UTF-8");
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        verificationMailSender = new VerificationMailSender(mailSender, templateEngine, "newsfeed@email.com", 100, 10, 3, 100);
+        verificationMailSender.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        verificationMailSender.stop();
+    }
+
+    @Test
+    @DisplayName("인증 메일 발송 - 대기열의 메일을 모아서 발송")
+    void testSendQueuedMails() {
+        // when
+        boolean first = verificationMailSender.enqueue("sparta1@email.com", "123456");
+        boolean second = verificationMailSender.enqueue("sparta2@email.com", "654321");
+
+        // then
+        assertTrue(first && second, "인증 메일이 대기열에 추가되지 않았습니다.");
+        assertTrue(greenMail.waitForIncomingEmail(5000, 2), "인증 메일이 발송되지 않았습니다.");
+
+        MimeMessage[] messages = greenMail.getReceivedMessages();
+        assertEquals(2, messages.length, "발송된 인증 메일 수가 올바르지 않습니다.");
+        assertTrue(GreenMailUtil.getBody(messages[0]).contains("123456") || GreenMailUtil.getBody(messages[1]).contains("123456"),
+                "인증번호가 메일 본문에 포함되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("인증 메일 발송 - 대기열이 가득 찬 경우 즉시 거부")
+    void testRejectWhenQueueIsFull() throws InterruptedException {
+        // given
+        verificationMailSender.stop();
+        VerificationMailSender smallQueueSender = new VerificationMailSender(new JavaMailSenderImpl(), new TemplateEngine(), "", 1, 10, 3, 100);
+
+        // when
+        boolean first = smallQueueSender.enqueue("sparta1@email.com", "123456");
+        boolean second = smallQueueSender.enqueue("sparta2@email.com", "654321");
+
+        // then
+        assertTrue(first, "인증 메일이 대기열에 추가되지 않았습니다.");
+        assertFalse(second, "대기열이 가득 찬 상태에서 거부되지 않았습니다.");
+    }
+}
@@ -0,0 +1,77 @@
+package com.sparta.newsfeedteamproject.util;
+
+import com.sparta.newsfeedteamproject.config.JwtConfig;
+import com.sparta.newsfeedteamproject.entity.Status;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+@Tag("benchmark")
+public class JwtProviderBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    static JwtProvider jwtProvider;
+    static String accessToken;
+    static String refreshToken;
+
+    @BeforeAll
+    static void setUp() {
+        JwtConfig.key = Keys.hmacShaKeyFor("sparta-newsfeed-test-secret-key-0123456789".getBytes());
+        JwtConfig.accessTokenTime = 1800000L;
+
+        jwtProvider = new JwtProvider(null, Jwts.parserBuilder().setSigningKey(JwtConfig.key).build());
+        accessToken = jwtProvider.substringToken(jwtProvider.createAccessToken(1L, "spartaclub_access", Status.ACTIVATE));
+        refreshToken = jwtProvider.substringToken(jwtProvider.createAccessToken(1L, "spartaclub", Status.ACTIVATE));
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성능 비교 - 매번 파서 생성 후 중복 검증 vs 재사용 파서와 검증 캐시")
+    void benchmarkVerify() {
+        // given
+        run(this::verifyBefore, WARMUP_ITERATIONS);
+        run(this::verifyAfter, WARMUP_ITERATIONS);
+
+        // when
+        long beforeNanos = run(this::verifyBefore, ITERATIONS);
+        long afterNanos = run(this::verifyAfter, ITERATIONS);
+
+        System.out.printf("[benchmark] 요청당 토큰 검증 - 변경 전 : %dns, 변경 후 : %dns%n",
+                beforeNanos / ITERATIONS, afterNanos / ITERATIONS);
+
+        // then
+        assertEquals(verifyBefore(), verifyAfter(), "검증 결과가 달라졌습니다.");
+    }
+
+    // 변경 전 AuthorizationFilter (두 토큰 모두 유효한 경우) : access 검증 2회 + refresh Claims 조회 1회, 매번 파서 생성
+    private String verifyBefore() {
+        Jwts.parserBuilder().setSigningKey(JwtConfig.key).build().parseClaimsJws(accessToken);
+        Claims claims = Jwts.parserBuilder().setSigningKey(JwtConfig.key).build().parseClaimsJws(refreshToken).getBody();
+        Jwts.parserBuilder().setSigningKey(JwtConfig.key).build().parseClaimsJws(accessToken);
+        return claims.getSubject();
+    }
+
+    // 변경 후 AuthorizationFilter : 두 토큰을 각각 1회 verify
+    private String verifyAfter() {
+        jwtProvider.verify(accessToken);
+        return jwtProvider.verify(refreshToken).getClaims().getSubject();
+    }
+
+    private long run(Supplier<String> task, int iterations) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.get();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,121 @@
+package com.sparta.newsfeedteamproject.util;
+
+import com.sparta.newsfeedteamproject.config.JwtConfig;
+import com.sparta.newsfeedteamproject.entity.Status;
+import com.sparta.newsfeedteamproject.entity.User;
+import com.sparta.newsfeedteamproject.security.RefreshTokenStore;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtProviderTest {
+
+    @Mock
+    RefreshTokenStore refreshTokenStore;
+
+    JwtProvider jwtProvider;
+
+    Long userId = 1L;
+    String username = "spartaclub";
+
+    @BeforeAll
+    static void setUpKey() {
+        JwtConfig.key = Keys.hmacShaKeyFor("sparta-newsfeed-test-secret-key-0123456789".getBytes());
+        JwtConfig.accessTokenTime = 1800000L;
+    }
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(refreshTokenStore, Jwts.parserBuilder().setSigningKey(JwtConfig.key).build());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 유효한 토큰")
+    void testVerifyValid() {
+        // given
+        String token = jwtProvider.substringToken(jwtProvider.createAccessToken(userId, username, Status.ACTIVATE));
+
+        // when
+        TokenVerification verification = jwtProvider.verify(token);
+
+        // then
+        assertTrue(verification.isValid(), "유효한 토큰이 검증되지 않았습니다.");
+        assertEquals(username, verification.getClaims().getSubject(), "토큰의 사용자가 올바르지 않습니다.");
+        assertNotNull(verification.getExpiration(), "토큰의 만료 시각이 없습니다.");
+    }
+
+    @Test
+    @DisplayName("토큰 Claims로 사용자 구성")
+    void testGetUserFromClaims() {
+        // given
+        String token = jwtProvider.substringToken(jwtProvider.createAccessToken(userId, username, Status.ACTIVATE));
+
+        // when
+        User user = jwtProvider.getUserFromClaims(jwtProvider.verify(token).getClaims());
+
+        // then
+        assertEquals(userId, user.getId(), "사용자 id가 올바르지 않습니다.");
+        assertEquals(username, user.getUsername(), "사용자 Username이 올바르지 않습니다.");
+        assertEquals(Status.ACTIVATE, user.getStatus(), "사용자 상태가 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 재검증 시 캐시된 결과 사용")
+    void testVerifyCached() {
+        // given
+        String token = jwtProvider.substringToken(jwtProvider.createAccessToken(userId, username, Status.ACTIVATE));
+
+        // when
+        TokenVerification first = jwtProvider.verify(token);
+        TokenVerification second = jwtProvider.verify(token);
+
+        // then
+        assertSame(first.getClaims(), second.getClaims(), "검증된 토큰이 캐시되지 않았습니다.");
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 만료된 토큰")
+    void testVerifyExpired() {
+        // given
+        Date past = new Date(System.currentTimeMillis() - 60000L);
+        String token = Jwts.builder()
+                .setSubject(username)
+                .setIssuedAt(new Date(past.getTime() - 60000L))
+                .setExpiration(past)
+                .signWith(JwtConfig.key, JwtConfig.signatureAlgorithm)
+                .compact();
+
+        // when
+        TokenVerification verification = jwtProvider.verify(token);
+
+        // then
+        assertTrue(verification.isExpired(), "만료된 토큰이 만료 상태로 검증되지 않았습니다.");
+        assertEquals(username, verification.getClaims().getSubject(), "만료된 토큰의 사용자가 올바르지 않습니다.");
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 위조된 토큰")
+    void testVerifyInvalid() {
+        // given
+        String token = jwtProvider.substringToken(jwtProvider.createAccessToken(userId, username, Status.ACTIVATE));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when
+        TokenVerification verification = jwtProvider.verify(tampered);
+
+        // then
+        assertEquals(TokenVerification.State.INVALID, verification.getState(), "위조된 토큰이 검증되었습니다.");
+        assertNull(verification.getClaims(), "위조된 토큰의 Claims가 반환되었습니다.");
+    }
+}